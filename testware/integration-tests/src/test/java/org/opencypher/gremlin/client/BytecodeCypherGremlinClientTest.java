@@ -15,17 +15,21 @@
  */
 package org.opencypher.gremlin.client;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+import org.opencypher.gremlin.translation.CypherAst;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 @SuppressWarnings("Duplicates")
 public class BytecodeCypherGremlinClientTest {
@@ -76,6 +80,84 @@ public class BytecodeCypherGremlinClientTest {
             .containsExactlyInAnyOrder("marko");
     }
 
+    @Test
+    public void cachedTranslation() {
+        BytecodeCypherGremlinClient cachingClient = new BytecodeCypherGremlinClient(
+            gremlinServer.gremlinClient().alias("g"),
+            () -> Translator.builder()
+                .bytecode()
+                .build(),
+            10,
+            false
+        );
+        String cypher = "MATCH (p:person) WHERE $low <= p.age < 32 RETURN p.name AS name SKIP $skip";
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("low", 29);
+        parameters.put("skip", 0);
+        assertThat(cachingClient.submit(cypher, parameters).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko");
+
+        parameters.put("low", 27);
+        assertThat(cachingClient.submit(cypher, parameters).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko", "vadas");
+
+        parameters.put("skip", 1);
+        assertThat(cachingClient.submit(cypher, parameters).all())
+            .hasSize(1);
+    }
+
+    @Test
+    public void cachedTranslationPerParameterNames() {
+        TranslationCache cache = new TranslationCache(10);
+        TranslatorFlavor flavor = TranslatorFlavor.gremlinServer();
+        String cypher = "MATCH (p:person) WHERE p.age < $max RETURN p.name AS name";
+        Map<String, Object> parameters = singletonMap("max", 30L);
+        cache.put(cypher, flavor, parameters, CypherAst.parse(cypher, parameters));
+
+        assertThat(cache.get(cypher, flavor, singletonMap("max", 40L))).isNotNull();
+        assertThat(cache.get(cypher, flavor, singletonMap("min", 30L))).isNull();
+        assertThat(cache.get(cypher, flavor, emptyMap())).isNull();
+    }
+
+    @Test
+    public void cachedExtractedTranslation() {
+        BytecodeCypherGremlinClient cachingClient = new BytecodeCypherGremlinClient(
+            gremlinServer.gremlinClient().alias("g"),
+            () -> Translator.builder()
+                .bytecode()
+                .build(),
+            10,
+            true
+        );
+        String cypher = "MATCH (p:person) WHERE p.age < 30 RETURN p.name AS name";
+
+        assertThat(cachingClient.submit(cypher).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko", "vadas");
+        assertThat(cachingClient.submit(cypher).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko", "vadas");
+        assertThat(cachingClient.submit("MATCH (p:person) WHERE p.age < 28 RETURN p.name AS name").all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("vadas");
+    }
+
+    @Test
+    public void cachedTranslationPerQueryText() {
+        TranslationCache cache = new TranslationCache(10);
+        TranslatorFlavor flavor = TranslatorFlavor.gremlinServer();
+        String cypher = "MATCH (p:person) WHERE p.age < 30 RETURN p.name AS name";
+        CypherAst ast = CypherAst.parse(cypher, emptyMap(), emptyMap(), true);
+        TranslationCache.Translation translation = cache.putExtracted(cypher, flavor, emptyMap(), ast);
+
+        assertThat(cache.get(cypher, flavor, emptyMap())).isSameAs(translation);
+        assertThat(translation.getExtractedParameters()).isEqualTo(ast.getExtractedParameters());
+        assertThat(cache.get(ast.statement(), flavor, ast.getExtractedParameters())).isNotNull();
+    }
+
     @Test
     public void invalidSyntax() {
         CypherResultSet resultSet = client.submit("INVALID");
@@ -26,6 +26,7 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.opencypher.gremlin.rules.GremlinServerExternalResource;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 @SuppressWarnings("Duplicates")
 public class GroovyCypherGremlinClientTest {
@@ -76,6 +77,51 @@ public class GroovyCypherGremlinClientTest {
             .containsExactlyInAnyOrder("marko");
     }
 
+    @Test
+    public void extractLiterals() {
+        GroovyCypherGremlinClient extractingClient = new GroovyCypherGremlinClient(
+            gremlinServer.gremlinClient(),
+            () -> Translator.builder()
+                .gremlinGroovy()
+                .build(),
+            10,
+            true
+        );
+
+        assertThat(extractingClient.submit("MATCH (p:person) WHERE 29 <= p.age < 32 RETURN p.name AS name").all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko");
+        assertThat(extractingClient.submit("MATCH (p:person) WHERE 27 <= p.age < 32 RETURN p.name AS name").all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko", "vadas");
+        assertThat(extractingClient.submit("MATCH (p:person {age: 32}) RETURN p.name AS name").all())
+            .extracting("name")
+            .containsExactly("josh");
+    }
+
+    @Test
+    public void explainWithClientFlavor() {
+        GroovyCypherGremlinClient limitedClient = new GroovyCypherGremlinClient(
+            gremlinServer.gremlinClient(),
+            () -> Translator.builder()
+                .gremlinGroovy()
+                .build(TranslatorFlavor.gremlinServer().withHopLimit(3)),
+            10,
+            true
+        );
+
+        List<Map<String, Object>> results = limitedClient
+            .submit("EXPLAIN MATCH (a {name: 'marko'})-[*]->(b) RETURN b")
+            .all();
+
+        assertThat(results)
+            .extracting("translation")
+            .hasSize(1)
+            .allSatisfy(translation -> assertThat((String) translation)
+                .contains(".times(3)")
+                .contains("'marko'"));
+    }
+
     @Test
     public void invalidSyntax() {
         CypherResultSet resultSet = client.submit("INVALID");
@@ -458,6 +458,25 @@ public class CreateTest {
         assertThat(result).containsEntry("n.foo", asList("one", "two", "three"));
     }
 
+    @Test
+    public void createFromRowsWithMissingValues() {
+        assertThat(submitAndGet(
+            "UNWIND [{name: 'marko', age: 29}, {name: 'vadas'}] AS row " +
+                "CREATE (:person {name: row.name, age: row.age})"
+        )).isEmpty();
+
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n:person) RETURN n.name, keys(n) ORDER BY n.name"
+        );
+
+        assertThat(results)
+            .extracting("n.name", "keys(n)")
+            .containsExactly(
+                tuple("marko", asList("name", "age")),
+                tuple("vadas", asList("name"))
+            );
+    }
+
     @Test
     public void createEmptyNode() {
         assertThat(submitAndGet(
@@ -46,7 +46,8 @@ public class ExplainTest {
         assertThat(explain.keySet())
             .containsExactly(
                 "translation",
-                "options"
+                "options",
+                "profile"
             );
         assertThat(explain)
             .extracting(
@@ -55,5 +56,26 @@ public class ExplainTest {
             .containsExactly(
                 "[EXPLAIN]"
             );
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> profile = (Map<String, Object>) explain.get("profile");
+        assertThat(profile.keySet())
+            .containsExactly(
+                "phaseNanos",
+                "stepsBeforeRewriting",
+                "stepsAfterRewriting",
+                "rewriters"
+            );
+        @SuppressWarnings("unchecked")
+        Map<String, Object> phaseNanos = (Map<String, Object>) profile.get("phaseNanos");
+        assertThat(phaseNanos.keySet())
+            .containsExactly(
+                "preParse",
+                "frontEnd",
+                "walk",
+                "rewrite",
+                "write"
+            );
+        assertThat((List<?>) profile.get("rewriters")).isNotEmpty();
     }
 }
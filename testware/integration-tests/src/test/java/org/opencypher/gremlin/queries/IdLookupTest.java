@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.queries;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.opencypher.gremlin.groups.SkipWithBytecode;
+import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+
+public class IdLookupTest {
+
+    @ClassRule
+    public static final GremlinServerExternalResource gremlinServer = new GremlinServerExternalResource();
+
+    private Object aliceId;
+    private Object bobId;
+    private Object knowsId;
+
+    @Before
+    public void setUp() {
+        gremlinServer.gremlinClient().submit("g.V().drop()").all().join();
+        Map<String, Object> ids = submitAndGet(
+            "CREATE (a:person {name: 'alice'})-[r:knows]->(b:person {name: 'bob'}) " +
+                "RETURN id(a) AS a, id(b) AS b, id(r) AS r",
+            emptyMap()
+        ).get(0);
+        aliceId = ids.get("a");
+        bobId = ids.get("b");
+        knowsId = ids.get("r");
+    }
+
+    private List<Map<String, Object>> submitAndGet(String cypher, Map<String, ?> parameters) {
+        return gremlinServer.cypherGremlinClient().submit(cypher, parameters).all();
+    }
+
+    @Test
+    public void vertexId() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n) WHERE id(n) = $nodeId RETURN n.name AS name",
+            singletonMap("nodeId", bobId)
+        );
+
+        assertThat(results)
+            .extracting("name")
+            .containsExactly("bob");
+    }
+
+    /**
+     * Custom predicate deserialization is not implemented
+     */
+    @Test
+    @Category(SkipWithBytecode.class)
+    public void vertexIdList() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n) WHERE id(n) IN $ids RETURN n.name AS name",
+            singletonMap("ids", asList(aliceId, bobId))
+        );
+
+        assertThat(results)
+            .extracting("name")
+            .containsExactlyInAnyOrder("alice", "bob");
+    }
+
+    /**
+     * Custom predicate deserialization is not implemented
+     */
+    @Test
+    @Category(SkipWithBytecode.class)
+    public void emptyIdList() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n) WHERE id(n) IN $ids RETURN n",
+            singletonMap("ids", emptyList())
+        );
+
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    public void missingId() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n) WHERE id(n) = $nodeId RETURN n",
+            singletonMap("nodeId", -1L)
+        );
+
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    public void edgeId() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH ()-[r:knows]->(b) WHERE id(r) = $edgeId RETURN b.name AS name",
+            singletonMap("edgeId", knowsId)
+        );
+
+        assertThat(results)
+            .extracting("name")
+            .containsExactly("bob");
+    }
+
+    @Test
+    public void vertexIdInExpansion() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a)-[:knows]->(b) WHERE id(a) = $nodeId RETURN b.name AS name",
+            singletonMap("nodeId", aliceId)
+        );
+
+        assertThat(results)
+            .extracting("name")
+            .containsExactly("bob");
+    }
+}
@@ -233,4 +233,78 @@ public class MatchTest {
             .extracting("i.name")
             .containsExactlyInAnyOrder("marko", "lop", "josh");
     }
+
+    @Test
+    public void startFromSelectiveNode() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a:person)-[:knows]->(b:person {name: 'josh'})-[:created]->(s) " +
+                "RETURN a.name, s.name"
+        );
+
+        assertThat(results)
+            .extracting("a.name", "s.name")
+            .containsExactlyInAnyOrder(
+                tuple("marko", "ripple"),
+                tuple("marko", "lop")
+            );
+    }
+
+    @Test
+    public void startFromSelectiveNodeInWhere() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a)-[:created]-(b)<-[:created]-(c) " +
+                "WHERE c.name = 'peter' " +
+                "RETURN a.name, b.name"
+        );
+
+        assertThat(results)
+            .extracting("a.name", "b.name")
+            .containsExactlyInAnyOrder(
+                tuple("marko", "lop"),
+                tuple("josh", "lop")
+            );
+    }
+
+    @Test
+    public void joinPatternParts() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (b)-[:created]->(s), (a:person {name: 'marko'})-[:knows]->(b) " +
+                "RETURN b.name, s.name"
+        );
+
+        assertThat(results)
+            .extracting("b.name", "s.name")
+            .containsExactlyInAnyOrder(
+                tuple("josh", "ripple"),
+                tuple("josh", "lop")
+            );
+    }
+
+    @Test
+    public void disconnectedPatternParts() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a:person), (s:software {name: 'ripple'}) " +
+                "WHERE a.age > 30 " +
+                "RETURN a.name, s.name"
+        );
+
+        assertThat(results)
+            .extracting("a.name", "s.name")
+            .containsExactlyInAnyOrder(
+                tuple("josh", "ripple"),
+                tuple("peter", "ripple")
+            );
+    }
+
+    @Test
+    public void namedPathWithPatternParts() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH p = (a)-->(b), (b)-->(c {name: 'ripple'}) " +
+                "RETURN a.name, length(p)"
+        );
+
+        assertThat(results)
+            .extracting("a.name", "length(p)")
+            .containsExactly(tuple("marko", 1L));
+    }
 }
@@ -252,4 +252,43 @@ public class MergeTest {
             .containsExactly(42L);
     }
 
+    @Test
+    public void onMatchAppliedOnce() throws Exception {
+        submitAndGet("CREATE (n:Counter {id: 1, count: 0})");
+
+        List<Map<String, Object>> results = submitAndGet(
+            "MERGE (n:Counter {id: 1}) " +
+                "ON MATCH SET n.count = n.count + 1 " +
+                "RETURN n.count"
+        );
+
+        assertThat(results)
+            .extracting("n.count")
+            .containsExactly(1L);
+    }
+
+    @Test
+    public void unwindRows() throws Exception {
+        submitAndGet("CREATE (n:N {id: 1, name: 'existing'})");
+
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [{id: 1, name: 'a'}, {id: 2, name: 'b'}, {id: 2, name: 'c'}, {id: 3, name: 'd'}] AS row " +
+                "MERGE (n:N {id: row.id}) " +
+                "ON CREATE SET n.name = row.name " +
+                "RETURN n.id, n.name"
+        );
+
+        assertThat(results)
+            .extracting("n.id", "n.name")
+            .containsExactly(
+                tuple(1L, "existing"),
+                tuple(2L, "b"),
+                tuple(2L, "b"),
+                tuple(3L, "d")
+            );
+        assertThat(submitAndGet("MATCH (n:N) RETURN count(n) AS count"))
+            .extracting("count")
+            .containsExactly(3L);
+    }
+
 }
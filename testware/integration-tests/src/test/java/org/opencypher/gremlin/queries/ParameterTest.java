@@ -18,7 +18,9 @@ package org.opencypher.gremlin.queries;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.ClassRule;
@@ -128,4 +130,53 @@ public class ParameterTest {
             .extracting("arr")
             .containsExactly(1L, 2L, 3L);
     }
+
+    @Test
+    public void skipAndLimit() {
+        String cypher = "MATCH (n:person) " +
+            "RETURN n.name AS name " +
+            "ORDER BY name " +
+            "SKIP $skip LIMIT $limit";
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("skip", 1);
+        parameters.put("limit", 2);
+
+        assertThat(submitAndGet(cypher, parameters))
+            .extracting("name")
+            .containsExactly("marko", "peter");
+
+        parameters.put("skip", 0);
+        parameters.put("limit", 1);
+
+        assertThat(submitAndGet(cypher, parameters))
+            .extracting("name")
+            .containsExactly("josh");
+    }
+
+    @Test
+    public void invalidSkipAndLimit() {
+        String cypher = "MATCH (n:person) RETURN n.name AS name SKIP $skip LIMIT $limit";
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("skip", "1");
+        parameters.put("limit", 1);
+
+        assertThat(catchThrowable(() -> submitAndGet(cypher, parameters)))
+            .hasMessageContaining("`skip()` step requires a non-negative integer, got: 1");
+
+        parameters.put("skip", 0);
+        parameters.put("limit", -1);
+
+        assertThat(catchThrowable(() -> submitAndGet(cypher, parameters)))
+            .hasMessageContaining("`limit()` step requires a non-negative integer, got: -1");
+
+        parameters.put("limit", 1.5);
+
+        assertThat(catchThrowable(() -> submitAndGet(cypher, parameters)))
+            .hasMessageContaining("`limit()` step requires a non-negative integer, got: 1.5");
+
+        parameters.put("limit", null);
+
+        assertThat(catchThrowable(() -> submitAndGet(cypher, parameters)))
+            .hasMessageContaining("`limit()` step requires a non-negative integer, got: null");
+    }
 }
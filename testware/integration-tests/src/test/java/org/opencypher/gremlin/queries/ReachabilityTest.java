@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+
+public class ReachabilityTest {
+
+    @ClassRule
+    public static final GremlinServerExternalResource gremlinServer = new GremlinServerExternalResource();
+
+    private static final int RING_SIZE = 30;
+
+    @Before
+    public void setUp() {
+        gremlinServer.gremlinClient().submit("g.V().drop()").all().join();
+        submitAndGet("UNWIND range(0, " + (RING_SIZE - 1) + ") AS i CREATE (:node {i: i})");
+        submitAndGet(
+            "MATCH (a:node), (b:node) " +
+                "WHERE b.i = (a.i + 1) % " + RING_SIZE + " OR b.i = (a.i + 7) % " + RING_SIZE + " " +
+                "CREATE (a)-[:next]->(b)"
+        );
+    }
+
+    private List<Map<String, Object>> submitAndGet(String cypher) {
+        return gremlinServer.cypherGremlinClient().submit(cypher).all();
+    }
+
+    @Test
+    public void distinctReachableNodes() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a:node {i: 0})-[:next*]->(b) RETURN DISTINCT b.i AS i"
+        );
+
+        assertThat(results)
+            .extracting("i")
+            .containsExactlyInAnyOrder(LongStream.range(0, RING_SIZE).boxed().toArray());
+    }
+
+    @Test
+    public void distinctReachableNodesExceptStart() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a:node {i: 0})-[:next*1..]->(b) RETURN DISTINCT b.i AS i"
+        );
+
+        assertThat(results)
+            .extracting("i")
+            .containsExactlyInAnyOrder(LongStream.range(1, RING_SIZE).boxed().toArray());
+    }
+
+    @Test
+    public void distinctReachablePairs() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a:node)-[:next*0..]->(b) WITH DISTINCT a, b RETURN count(*) AS pairs"
+        );
+
+        assertThat(results)
+            .extracting("pairs")
+            .containsExactly((long) RING_SIZE * RING_SIZE);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.queries;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+
+public class ShortestPathTest {
+
+    @ClassRule
+    public static final GremlinServerExternalResource gremlinServer = new GremlinServerExternalResource();
+
+    @Before
+    public void setUp() {
+        gremlinServer.gremlinClient().submit("g.V().drop()").all().join();
+        submitAndGet(
+            "CREATE (a:N {name: 'a'})-[:R]->(b:N {name: 'b'})-[:R]->(c:N {name: 'c'})-[:R]->(d:T {name: 'd'}), " +
+                "(a)-[:R]->(e:N {name: 'e'})-[:R]->(d), " +
+                "(a)-[:S]->(x:N {name: 'x'})-[:R]->(d), " +
+                "(c)-[:R]->(a)"
+        );
+    }
+
+    private List<Map<String, Object>> submitAndGet(String cypher) {
+        return gremlinServer.cypherGremlinClient().submit(cypher).all();
+    }
+
+    @Test
+    public void shortestPath() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a {name: 'a'}), (d {name: 'd'}), p = shortestPath((a)-[*]->(d)) " +
+                "RETURN length(p) AS length"
+        );
+
+        assertThat(results)
+            .extracting("length")
+            .containsExactly(2L);
+    }
+
+    @Test
+    public void shortestPathByType() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a {name: 'a'}), (d {name: 'd'}), p = shortestPath((a)-[:R*]->(d)) " +
+                "RETURN [n IN nodes(p) | n.name] AS names"
+        );
+
+        assertThat(results)
+            .extracting("names")
+            .containsExactly(asList("a", "e", "d"));
+    }
+
+    @Test
+    public void allShortestPaths() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a {name: 'a'}), (d {name: 'd'}), p = allShortestPaths((a)-[*]->(d)) " +
+                "RETURN [n IN nodes(p) | n.name] AS names, [r IN relationships(p) | type(r)] AS types"
+        );
+
+        assertThat(results)
+            .extracting("names", "types")
+            .containsExactlyInAnyOrder(
+                tuple(asList("a", "e", "d"), asList("R", "R")),
+                tuple(asList("a", "x", "d"), asList("S", "R"))
+            );
+    }
+
+    @Test
+    public void shortestPathToUnboundNode() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH p = shortestPath((a:N {name: 'b'})-[*]->(t:T)) " +
+                "RETURN t.name AS name, length(p) AS length"
+        );
+
+        assertThat(results)
+            .extracting("name", "length")
+            .containsExactly(tuple("d", 2L));
+    }
+
+    @Test
+    public void undirectedShortestPaths() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a {name: 'a'}), (c {name: 'c'}), p = allShortestPaths((c)-[*]-(a)) " +
+                "RETURN [n IN nodes(p) | n.name] AS names"
+        );
+
+        assertThat(results)
+            .extracting("names")
+            .containsExactly(asList("c", "a"));
+    }
+
+    @Test
+    public void noShortestPath() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a {name: 'a'}), (d {name: 'd'}), p = shortestPath((d)-[*]->(a)) " +
+                "RETURN length(p) AS length"
+        );
+
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    public void shortestPathUpperBound() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a {name: 'a'}), (d {name: 'd'}), p = shortestPath((a)-[*..1]->(d)) " +
+                "RETURN length(p) AS length"
+        );
+
+        assertThat(results).isEmpty();
+    }
+
+    @Test
+    public void shortestPathsInCyclicGraph() {
+        gremlinServer.gremlinClient().submit("g.V().drop()").all().join();
+        submitAndGet("UNWIND range(0, 29) AS i CREATE (:node {i: i})");
+        submitAndGet(
+            "MATCH (a:node), (b:node) " +
+                "WHERE b.i = (a.i + 1) % 30 OR b.i = (a.i + 7) % 30 " +
+                "CREATE (a)-[:next]->(b)"
+        );
+
+        List<Map<String, Object>> single = submitAndGet(
+            "MATCH (a:node {i: 0}), (b:node {i: 15}), p = shortestPath((a)-[:next*]->(b)) " +
+                "RETURN length(p) AS length"
+        );
+        List<Map<String, Object>> all = submitAndGet(
+            "MATCH (a:node {i: 0}), (b:node {i: 15}), p = allShortestPaths((a)-[:next*]->(b)) " +
+                "RETURN [n IN nodes(p) | n.i] AS path"
+        );
+
+        assertThat(single)
+            .extracting("length")
+            .containsExactly(3L);
+        assertThat(all)
+            .extracting("path")
+            .containsExactlyInAnyOrder(
+                asList(0L, 1L, 8L, 15L),
+                asList(0L, 7L, 8L, 15L),
+                asList(0L, 7L, 14L, 15L)
+            );
+    }
+}
@@ -48,6 +48,39 @@ public class WhereTest {
             .containsExactlyInAnyOrder("josh", "vadas");
     }
 
+    @Test
+    public void inListLiteral() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (c) WHERE c.name IN ['lop', 'ripple'] RETURN c.name"
+        );
+
+        assertThat(results)
+            .extracting("c.name")
+            .containsExactlyInAnyOrder("lop", "ripple");
+    }
+
+    @Test
+    public void notInListLiteral() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n:person) WHERE NOT n.name IN ['marko', 'josh'] RETURN n.name"
+        );
+
+        assertThat(results)
+            .extracting("n.name")
+            .containsExactlyInAnyOrder("vadas", "peter");
+    }
+
+    @Test
+    public void inListLiteralInPattern() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a)-->(b)-->(c) WHERE a.name IN ['marko'] RETURN c.name"
+        );
+
+        assertThat(results)
+            .extracting("c.name")
+            .containsExactlyInAnyOrder("lop", "ripple");
+    }
+
     @Test
     public void relationshipType() {
         List<Map<String, Object>> results = submitAndGet(
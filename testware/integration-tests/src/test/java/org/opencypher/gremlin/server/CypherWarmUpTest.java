@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codahale.metrics.Gauge;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opencypher.gremlin.server.op.cypher.CypherOpProcessor;
+
+public class CypherWarmUpTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void warmUpPlanCache() throws Exception {
+        File queries = folder.newFile("warm-up.yaml");
+        Files.write(queries.toPath(), (
+            "- query: MATCH (p:person) WHERE p.name = $name RETURN p\n" +
+                "  parameters: {name: marko}\n" +
+                "- query: MATCH (n) RETURN count(n) AS count\n" +
+                "- query: |\n" +
+                "    CREATE (n:person {age: $age})\n" +
+                "  parameters: {age: 29}\n" +
+                "- query: NOT CYPHER\n"
+        ).getBytes());
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(CypherOpProcessor.CONFIG_WARM_UP_QUERIES, queries.getPath());
+        config.put(CypherOpProcessor.CONFIG_WARM_UP_EXECUTE, true);
+        Settings.ProcessorSettings processorSettings = new Settings.ProcessorSettings();
+        processorSettings.className = CypherOpProcessor.class.getName();
+        processorSettings.config = config;
+        Settings settings = new Settings();
+        settings.processors.add(processorSettings);
+
+        new CypherOpProcessor().init(settings);
+
+        Gauge<?> size = MetricManager.INSTANCE.getRegistry().getGauges()
+            .get(name(CypherOpProcessor.class, "planCache", "size"));
+        assertThat(size.getValue()).isEqualTo(3);
+    }
+}
@@ -16,6 +16,7 @@
 package org.opencypher.gremlin.snippets;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.collect.Lists;
@@ -113,6 +114,30 @@ public class CypherGremlinServerClientSnippets {
             .containsExactly("marko", "vadas", "josh", "peter");
     }
 
+    @Test
+    public void translationCache() {
+        Client gremlinClient = newGremlinClient();
+
+        // freshReadmeSnippet: translationCache
+        CypherGremlinClient cypherGremlinClient = CypherGremlinClient.translating(
+            gremlinClient,
+            TranslatorFlavor.gremlinServer(),
+            1000
+        );
+        // freshReadmeSnippet: translationCache
+
+        String cypher = "MATCH (p:person) WHERE p.age > $age RETURN p.name";
+        List<Map<String, Object>> results = cypherGremlinClient.submit(cypher, singletonMap("age", 25)).all();
+        assertThat(results)
+            .extracting("p.name")
+            .containsExactly("marko", "vadas", "josh", "peter");
+
+        results = cypherGremlinClient.submit(cypher, singletonMap("age", 30)).all();
+        assertThat(results)
+            .extracting("p.name")
+            .containsExactly("josh", "peter");
+    }
+
     private Client newGremlinClient() {
         BaseConfiguration configuration = new BaseConfiguration();
         configuration.setProperty("port", gremlinServer.getPort());
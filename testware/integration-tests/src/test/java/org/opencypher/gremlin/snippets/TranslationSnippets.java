@@ -15,8 +15,10 @@
  */
 package org.opencypher.gremlin.snippets;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.junit.ClassRule;
@@ -24,11 +26,13 @@ import org.junit.Test;
 import org.opencypher.gremlin.rules.GremlinServerExternalResource;
 import org.opencypher.gremlin.translation.CypherAst;
 import org.opencypher.gremlin.translation.TranslationFacade;
+import org.opencypher.gremlin.translation.TranslationResult;
 import org.opencypher.gremlin.translation.groovy.GroovyGremlinBindings;
 import org.opencypher.gremlin.translation.groovy.GroovyGremlinPredicates;
 import org.opencypher.gremlin.translation.groovy.GroovyGremlinSteps;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorConfiguration;
 import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 public class TranslationSnippets {
@@ -47,6 +51,29 @@ public class TranslationSnippets {
         assertThat(gremlin).startsWith("g.V()");
     }
 
+    @Test
+    public void translateBatch() throws Exception {
+        List<String> queries = asList(
+            "MATCH (p:Person) WHERE p.age > 25 RETURN p.name",
+            "MATCH (p:Person) RETURN count(p)"
+        );
+
+        // freshReadmeSnippet: batch
+        TranslationFacade cfog = new TranslationFacade();
+        List<TranslationResult<String>> results = cfog.toGremlinGroovy(queries, TranslatorFlavor.gremlinServer());
+        for (TranslationResult<String> result : results) {
+            if (result.isSuccess()) {
+                String gremlin = result.getTranslation();
+            } else {
+                RuntimeException error = result.getError();
+            }
+        }
+        // freshReadmeSnippet: batch
+
+        assertThat(results).extracting(TranslationResult::getTranslation)
+            .allMatch(gremlin -> gremlin.startsWith("g.V()"));
+    }
+
     @Test
     public void translateVerbose() throws Exception {
         // freshReadmeSnippet: verbose
@@ -59,6 +86,20 @@ public class TranslationSnippets {
         assertThat(gremlin).startsWith("g.V()");
     }
 
+    @Test
+    public void translatorConfiguration() throws Exception {
+        // freshReadmeSnippet: configuration
+        TranslatorConfiguration<String, GroovyPredicate> configuration = Translator.builder()
+            .gremlinGroovy()
+            .buildConfiguration();
+
+        CypherAst ast = CypherAst.parse("MATCH (p:Person) WHERE p.age > 25 RETURN p.name");
+        String gremlin = ast.buildTranslation(configuration.newTranslator());
+        // freshReadmeSnippet: configuration
+
+        assertThat(gremlin).startsWith("g.V()");
+    }
+
     @Test
     public void translatorBytecode() throws Exception {
         // freshReadmeSnippet: bytecode
@@ -100,6 +141,18 @@ public class TranslationSnippets {
         assertThat(gremlin).isEqualTo("g.V()");
     }
 
+    @Test
+    public void hopLimit() throws Exception {
+        // freshReadmeSnippet: hopLimit
+        Translator<String, GroovyPredicate> translator = Translator.builder()
+            .gremlinGroovy()
+            .build(TranslatorFlavor.gremlinServer().withHopLimit(20));
+        // freshReadmeSnippet: hopLimit
+
+        String gremlin = CypherAst.parse("MATCH (n)-[*]->(m) RETURN m").buildTranslation(translator);
+        assertThat(gremlin).contains(".times(20)");
+    }
+
     @Test
     public void custom() throws Exception {
         // freshReadmeSnippet: custom
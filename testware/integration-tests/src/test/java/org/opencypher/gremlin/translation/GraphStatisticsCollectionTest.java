@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.junit.Test;
+
+public class GraphStatisticsCollectionTest {
+
+    @Test
+    public void collectModern() {
+        GraphStatistics statistics = GraphStatistics.collect(TinkerFactory.createModern().traversal());
+
+        assertThat(statistics.getVertexCount()).isEqualTo(6);
+        assertThat(statistics.getVertexCount("person")).isEqualTo(4);
+        assertThat(statistics.getVertexCount("software")).isEqualTo(2);
+        assertThat(statistics.getEdgeCount()).isEqualTo(6);
+        assertThat(statistics.getEdgeCount("knows")).isEqualTo(2);
+        assertThat(statistics.getEdgeCount("created")).isEqualTo(4);
+        assertThat(statistics.getAverageOutDegree("person", "created")).isEqualTo(1.0);
+        assertThat(statistics.getAverageInDegree("software", "created")).isEqualTo(2.0);
+        assertThat(statistics.getAverageInDegree("person", "knows")).isEqualTo(0.5);
+    }
+}
@@ -19,9 +19,15 @@ import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
 import java.io.IOException;
 import java.net.URL;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class IOUtils {
 
+    private static final Pattern QUERY_SEPARATOR = Pattern.compile(";\\s*$", Pattern.MULTILINE);
+
     private IOUtils() {
     }
 
@@ -34,4 +40,14 @@ public final class IOUtils {
         }
     }
 
+    /**
+     * Reads queries separated by semicolons at line ends.
+     */
+    public static List<String> readQueries(String fileName) {
+        return Stream.of(QUERY_SEPARATOR.split(readFile(fileName)))
+            .map(String::trim)
+            .filter(query -> !query.isEmpty())
+            .collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.singletonMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.collection.Seq;
+
+/**
+ * Ingests {@code rows} rows with {@code UNWIND $rows ... CREATE} into an empty TinkerGraph.
+ * Every other row has no {@code age}, so that property is not set on half of the vertices.
+ * The query is translated once, only traversal construction and execution are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CreateBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private TinkerGraph graph;
+    private Map<String, Object> parameters;
+    private Seq<GremlinStep> unwindCreate;
+    private Seq<GremlinStep> unwindCreateSet;
+
+    @Setup
+    public void setup() {
+        List<Map<String, Object>> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", (long) i);
+            row.put("name", "p" + i);
+            if (i % 2 == 0) {
+                row.put("age", (long) (i % 90));
+            }
+            batch.add(row);
+        }
+        parameters = singletonMap("rows", batch);
+
+        unwindCreate = CypherAst.parse(
+            "UNWIND $rows AS row " +
+                "CREATE (n:person {id: row.id, name: row.name, age: row.age})",
+            parameters
+        ).translate(TranslatorFlavor.gremlinServer(), ProcedureContext.empty());
+
+        unwindCreateSet = CypherAst.parse(
+            "UNWIND $rows AS row " +
+                "CREATE (n:person {id: row.id}) " +
+                "SET n.name = row.name, n.age = row.age",
+            parameters
+        ).translate(TranslatorFlavor.gremlinServer(), ProcedureContext.empty());
+    }
+
+    @Setup(Level.Invocation)
+    public void setupGraph() {
+        graph = TinkerGraph.open();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownGraph() throws Exception {
+        graph.close();
+    }
+
+    @Benchmark
+    public void unwindCreate(Blackhole blackhole) {
+        ingest(unwindCreate, blackhole);
+    }
+
+    @Benchmark
+    public void unwindCreateSet(Blackhole blackhole) {
+        ingest(unwindCreateSet, blackhole);
+    }
+
+    private void ingest(Seq<GremlinStep> ir, Blackhole blackhole) {
+        GraphTraversalSource g = graph.traversal();
+        Translator<GraphTraversal, P> translator = Translator.builder()
+            .traversal(new DefaultGraphTraversal(g))
+            .enableCypherExtensions()
+            .build();
+        GraphTraversal<?, ?> traversal = TranslationWriter.write(ir, translator, parameters);
+        traversal.forEachRemaining(blackhole::consume);
+    }
+}
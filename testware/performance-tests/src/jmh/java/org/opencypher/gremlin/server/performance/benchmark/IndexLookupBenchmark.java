@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.ir.rewrite.GremlinRewriter;
+import org.opencypher.gremlin.translation.ir.rewrite.GroupStepFilters$;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.collection.JavaConverters;
+import scala.collection.Seq;
+
+/**
+ * Runs property lookups on a TinkerGraph with a vertex index on {@code name}.
+ * With {@code pushdown=false}, filters are not relocated to {@code has} steps,
+ * so every lookup scans all vertices.
+ * Queries are translated once, only traversal construction and execution are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexLookupBenchmark {
+
+    @Param({"true", "false"})
+    public boolean pushdown;
+
+    @Param({"10000"})
+    public int vertices;
+
+    private TinkerGraph graph;
+    private GraphTraversalSource g;
+    private Seq<GremlinStep> byProperty;
+    private Seq<GremlinStep> byPropertyAndRange;
+    private Seq<GremlinStep> byPropertyList;
+    private Seq<GremlinStep> expand;
+
+    @Setup
+    public void setup() {
+        graph = TinkerGraph.open();
+        graph.createIndex("name", Vertex.class);
+        Vertex previous = null;
+        for (int i = 0; i < vertices; i++) {
+            Vertex vertex = graph.addVertex(T.label, "person", "name", "p" + i, "age", (long) (i % 100));
+            if (previous != null) {
+                previous.addEdge("knows", vertex);
+            }
+            previous = vertex;
+        }
+        g = graph.traversal();
+
+        TranslatorFlavor flavor = pushdown ? TranslatorFlavor.gremlinServer() : withoutPushdown();
+        byProperty = translate(flavor, "MATCH (n:person {name: 'p5000'}) RETURN n.age");
+        byPropertyAndRange = translate(flavor, "MATCH (n:person) WHERE n.age > 10 AND n.name = 'p5050' RETURN n.age");
+        byPropertyList = translate(flavor, "MATCH (n:person) WHERE n.name IN ['p10', 'p5000', 'p9000'] RETURN n.age");
+        expand = translate(flavor, "MATCH (a:person {name: 'p5000'})-[:knows]->(b) RETURN b.name");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        graph.close();
+    }
+
+    @Benchmark
+    public void byProperty(Blackhole blackhole) {
+        run(byProperty, blackhole);
+    }
+
+    @Benchmark
+    public void byPropertyAndRange(Blackhole blackhole) {
+        run(byPropertyAndRange, blackhole);
+    }
+
+    @Benchmark
+    public void byPropertyList(Blackhole blackhole) {
+        run(byPropertyList, blackhole);
+    }
+
+    @Benchmark
+    public void expand(Blackhole blackhole) {
+        run(expand, blackhole);
+    }
+
+    private void run(Seq<GremlinStep> ir, Blackhole blackhole) {
+        Translator<GraphTraversal, P> translator = Translator.builder()
+            .traversal(new DefaultGraphTraversal(g.clone()))
+            .enableCypherExtensions()
+            .build();
+        GraphTraversal<?, ?> traversal = TranslationWriter.write(ir, translator, emptyMap());
+        traversal.forEachRemaining(blackhole::consume);
+    }
+
+    private static Seq<GremlinStep> translate(TranslatorFlavor flavor, String cypher) {
+        return CypherAst.parse(cypher).translate(flavor, ProcedureContext.empty());
+    }
+
+    private static TranslatorFlavor withoutPushdown() {
+        TranslatorFlavor flavor = TranslatorFlavor.gremlinServer();
+        List<GremlinRewriter> rewriters = JavaConverters.seqAsJavaListConverter(flavor.rewriters()).asJava()
+            .stream()
+            .filter(rewriter -> rewriter != GroupStepFilters$.MODULE$)
+            .collect(toList());
+        return new TranslatorFlavor(
+            JavaConverters.asScalaBufferConverter(rewriters).asScala(),
+            flavor.postConditions()
+        );
+    }
+}
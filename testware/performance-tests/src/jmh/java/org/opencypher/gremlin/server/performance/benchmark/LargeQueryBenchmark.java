@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.emptyMap;
+
+import java.util.concurrent.TimeUnit;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorConfiguration;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scala.collection.Seq;
+
+/**
+ * Translates generated write queries with a growing number of clauses.
+ * Translation time should grow about linearly with the number of clauses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LargeQueryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int clauses;
+
+    private String cypher;
+    private CypherAst ast;
+    private TranslatorFlavor flavor;
+    private Seq<GremlinStep> ir;
+    private TranslatorConfiguration<String, GroovyPredicate> groovy;
+
+    @Setup
+    public void setup() {
+        cypher = query(clauses);
+        ast = CypherAst.parse(cypher);
+        flavor = TranslatorFlavor.gremlinServer();
+        ir = ast.translate(flavor, ProcedureContext.empty());
+        groovy = Translator.builder().gremlinGroovy().enableCypherExtensions().buildConfiguration();
+    }
+
+    /**
+     * Parsing, semantic analysis and normalization.
+     */
+    @Benchmark
+    public CypherAst parse() {
+        return CypherAst.parse(cypher);
+    }
+
+    /**
+     * AST to IR translation and IR rewriting.
+     */
+    @Benchmark
+    public Seq<GremlinStep> translate() {
+        return ast.translate(flavor, ProcedureContext.empty());
+    }
+
+    /**
+     * IR to Gremlin-Groovy rendering.
+     */
+    @Benchmark
+    public String writeGroovy() {
+        return TranslationWriter.write(ir, groovy.newTranslator(), emptyMap());
+    }
+
+    private static String query(int clauses) {
+        StringBuilder query = new StringBuilder();
+        int creates = clauses / 2;
+        for (int i = 0; i < creates; i++) {
+            query.append("CREATE (n").append(i).append(":N {id: ").append(i).append("}) ");
+        }
+        for (int i = 0; i < clauses - creates; i++) {
+            query.append("SET n").append(i % creates).append(".p").append(i).append(" = ").append(i).append(' ');
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.singletonMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.collection.Seq;
+
+/**
+ * Ingests {@code rows} rows with {@code UNWIND $rows ... MERGE} into an empty TinkerGraph.
+ * Rows refer to {@code keys} distinct vertices, so most of them update an existing vertex.
+ * The query is translated once, only traversal construction and execution are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MergeBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"100"})
+    public int keys;
+
+    private TinkerGraph graph;
+    private Map<String, Object> parameters;
+    private Seq<GremlinStep> unwindMerge;
+
+    @Setup
+    public void setup() {
+        List<Map<String, Object>> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", (long) (i % keys));
+            row.put("name", "p" + i);
+            batch.add(row);
+        }
+        parameters = singletonMap("rows", batch);
+
+        unwindMerge = CypherAst.parse(
+            "UNWIND $rows AS row " +
+                "MERGE (n:person {id: row.id}) " +
+                "ON CREATE SET n.name = row.name " +
+                "ON MATCH SET n.updated = row.name",
+            parameters
+        ).translate(TranslatorFlavor.gremlinServer(), ProcedureContext.empty());
+    }
+
+    @Setup(Level.Invocation)
+    public void setupGraph() {
+        graph = TinkerGraph.open();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownGraph() throws Exception {
+        graph.close();
+    }
+
+    @Benchmark
+    public void unwindMerge(Blackhole blackhole) {
+        GraphTraversalSource g = graph.traversal();
+        Translator<GraphTraversal, P> translator = Translator.builder()
+            .traversal(new DefaultGraphTraversal(g))
+            .enableCypherExtensions()
+            .build();
+        GraphTraversal<?, ?> traversal = TranslationWriter.write(unwindMerge, translator, parameters);
+        traversal.forEachRemaining(blackhole::consume);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.emptyMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.Tokens;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.collection.Seq;
+
+/**
+ * Runs {@code OPTIONAL MATCH} on a generated TinkerGraph
+ * where every vertex has {@code degree} outgoing relationships to random vertices
+ * and every tenth vertex is a manager.
+ * {@code byCondition} runs the optional pattern as a {@code choose} condition and again as its branch,
+ * the way it was translated before the pattern was evaluated only once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OptionalMatchBenchmark {
+
+    @Param({"10000"})
+    public int vertices;
+
+    @Param({"20"})
+    public int degree;
+
+    private TinkerGraph graph;
+    private GraphTraversalSource g;
+    private Seq<GremlinStep> optionalMatch;
+
+    @Setup
+    public void setup() {
+        graph = TinkerGraph.open();
+        List<Vertex> created = new ArrayList<>(vertices);
+        for (int i = 0; i < vertices; i++) {
+            String label = i % 10 == 0 ? "manager" : "person";
+            created.add(graph.addVertex(T.label, label, "name", "p" + i));
+        }
+        Random random = new Random(42);
+        for (Vertex vertex : created) {
+            for (int i = 0; i < degree; i++) {
+                vertex.addEdge("knows", created.get(random.nextInt(vertices)));
+            }
+        }
+        g = graph.traversal();
+
+        optionalMatch = CypherAst.parse(
+            "MATCH (a) OPTIONAL MATCH (a)-[:knows]->(b:manager) RETURN count(b)"
+        ).translate(TranslatorFlavor.gremlinServer(), ProcedureContext.empty());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        graph.close();
+    }
+
+    @Benchmark
+    public void optionalMatch(Blackhole blackhole) {
+        Translator<GraphTraversal, P> translator = Translator.builder()
+            .traversal(new DefaultGraphTraversal(g.clone()))
+            .enableCypherExtensions()
+            .build();
+        GraphTraversal<?, ?> traversal = TranslationWriter.write(optionalMatch, translator, emptyMap());
+        traversal.forEachRemaining(blackhole::consume);
+    }
+
+    @Benchmark
+    public void byCondition(Blackhole blackhole) {
+        g.V().as("a")
+            .choose(
+                pattern(),
+                pattern(),
+                __.<Object>constant(Tokens.NULL).as("b")
+            )
+            .select("b")
+            .is(P.neq(Tokens.NULL))
+            .count()
+            .forEachRemaining(blackhole::consume);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GraphTraversal<?, Object> pattern() {
+        return (GraphTraversal) __.select("a").outE("knows").inV().as("b").hasLabel("manager");
+    }
+}
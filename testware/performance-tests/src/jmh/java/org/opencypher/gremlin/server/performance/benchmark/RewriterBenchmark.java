@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.opencypher.gremlin.server.performance.IOUtils.readQueries;
+import static org.opencypher.gremlin.server.performance.benchmark.TranslationPhaseBenchmark.CORPUS;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.ir.rewrite.GremlinRewriter;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.collection.JavaConverters;
+import scala.collection.Seq;
+
+/**
+ * Measures each rewriter of the default translator flavor separately.
+ * Rewriters are applied to the IR of the query corpus
+ * as it is at that point of the default rewriting pipeline.
+ * The benchmark fails to set up if its parameters do not list the rewriters of the default flavor.
+ * <p>
+ * Run with {@code -prof gc} to see allocation rates per rewriter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RewriterBenchmark {
+
+    @Param({
+        "InlineFlatMapTraversal",
+        "RemoveMultipleAliases",
+        "SimplifyPropertySetters",
+        "SimplifyRenamedAliases",
+        "GroupStepFilters",
+        "SimplifySingleProjections",
+        "RemoveUselessNullChecks",
+        "RemoveIdentityReselect",
+        "RemoveUnusedAliases",
+        "SimplifyEdgeTraversal",
+        "RelocateIdPredicates",
+        "SimplifyDelete",
+        "RemoveUselessSteps"
+    })
+    public String rewriter;
+
+    private GremlinRewriter target;
+    private List<Seq<GremlinStep>> irs;
+
+    @Setup
+    public void setup() {
+        List<GremlinRewriter> pipeline = JavaConverters
+            .seqAsJavaListConverter(TranslatorFlavor.gremlinServer().rewriters())
+            .asJava();
+        checkParameters(pipeline);
+        int index = 0;
+        while (!name(pipeline.get(index)).equals(rewriter)) {
+            index++;
+        }
+        target = pipeline.get(index);
+        List<GremlinRewriter> preceding = pipeline.subList(0, index);
+
+        irs = readQueries(CORPUS).stream()
+            .map(query -> {
+                CypherAst ast = CypherAst.parse(query);
+                Seq<GremlinStep> ir = ast.translate(TranslatorFlavor.empty(), ProcedureContext.empty());
+                for (GremlinRewriter rewriter : preceding) {
+                    ir = rewriter.apply(ir);
+                }
+                return ir;
+            })
+            .collect(toList());
+    }
+
+    private static void checkParameters(List<GremlinRewriter> pipeline) {
+        List<String> names = pipeline.stream()
+            .map(RewriterBenchmark::name)
+            .distinct()
+            .collect(toList());
+        List<String> parameters;
+        try {
+            parameters = asList(RewriterBenchmark.class.getField("rewriter").getAnnotation(Param.class).value());
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+        if (!parameters.equals(names)) {
+            throw new IllegalStateException(
+                "Benchmark parameters " + parameters + " do not match rewriters of the default flavor " + names);
+        }
+    }
+
+    private static String name(GremlinRewriter rewriter) {
+        return rewriter.getClass().getSimpleName().replace("$", "");
+    }
+
+    @Benchmark
+    public void rewrite(Blackhole blackhole) {
+        for (Seq<GremlinStep> ir : irs) {
+            blackhole.consume(target.apply(ir));
+        }
+    }
+}
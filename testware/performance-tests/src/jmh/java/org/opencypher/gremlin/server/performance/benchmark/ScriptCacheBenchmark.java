@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.emptyMap;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import javax.script.Bindings;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Evaluates translations of queries that only differ in literal values
+ * with the Gremlin-Groovy script engine used by Gremlin Server.
+ * <p>
+ * Without literal extraction, every query is compiled to a new script class.
+ * Script cache size, loaded classes and metaspace usage are reported as secondary results.
+ */
+@State(Scope.Benchmark)
+public class ScriptCacheBenchmark {
+
+    private static final ClassLoadingMXBean CLASS_LOADING = ManagementFactory.getClassLoadingMXBean();
+
+    @Param({"false", "true"})
+    public boolean extractLiterals;
+
+    private GremlinGroovyScriptEngine engine;
+    private Object g;
+    private long literal;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Growth {
+        public long cachedScripts;
+        public long loadedClasses;
+        public long metaspaceKb;
+    }
+
+    @Setup
+    public void setup() {
+        engine = new GremlinGroovyScriptEngine();
+        g = TinkerFactory.createModern().traversal();
+    }
+
+    @Benchmark
+    public List<?> distinctLiterals(Growth growth) throws ScriptException {
+        String cypher = "MATCH (p:person) WHERE p.age > " + (literal++ % 100_000) + " RETURN p.name AS name";
+        CypherAst ast = CypherAst.parse(cypher, emptyMap(), emptyMap(), extractLiterals);
+        String gremlin = ast.buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        Bindings bindings = new SimpleBindings();
+        bindings.put("g", g);
+        bindings.putAll(ast.getExtractedParameters());
+        List<?> result = ((Traversal<?, ?>) engine.eval(gremlin, bindings)).toList();
+
+        growth.cachedScripts = engine.getClassCacheEstimatedSize();
+        growth.loadedClasses = CLASS_LOADING.getLoadedClassCount();
+        growth.metaspaceKb = metaspaceUsed() / 1024;
+        return result;
+    }
+
+    private static long metaspaceUsed() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> "Metaspace".equals(pool.getName()))
+            .map(MemoryPoolMXBean::getUsage)
+            .mapToLong(MemoryUsage::getUsed)
+            .sum();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
+import static org.opencypher.gremlin.server.performance.IOUtils.readQueries;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.preparser.CypherPreParser;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.collection.Seq;
+
+/**
+ * Measures translation phases separately over a corpus of queries from integration tests.
+ * Each operation processes the whole corpus.
+ * <p>
+ * Run with {@code -prof gc} to see allocation rates per phase.
+ *
+ * @see RewriterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TranslationPhaseBenchmark {
+
+    static final String CORPUS = "translation-queries.cyp";
+
+    private List<String> queries;
+    private List<CypherAst> asts;
+    private List<Seq<GremlinStep>> irs;
+
+    @Setup
+    public void setup() {
+        queries = readQueries(CORPUS);
+        asts = queries.stream()
+            .map(CypherAst::parse)
+            .collect(toList());
+        irs = asts.stream()
+            .map(ast -> ast.translate(TranslatorFlavor.gremlinServer(), ProcedureContext.empty()))
+            .collect(toList());
+    }
+
+    /**
+     * Extraction of statement options, e.g. {@code EXPLAIN}.
+     */
+    @Benchmark
+    public void preParse(Blackhole blackhole) {
+        for (String query : queries) {
+            blackhole.consume(CypherPreParser.apply(query));
+        }
+    }
+
+    /**
+     * Pre-parsing, parsing, semantic analysis and normalization.
+     */
+    @Benchmark
+    public void frontEnd(Blackhole blackhole) {
+        for (String query : queries) {
+            blackhole.consume(CypherAst.parse(query));
+        }
+    }
+
+    /**
+     * AST to IR translation without rewriting.
+     */
+    @Benchmark
+    public void walk(Blackhole blackhole) {
+        for (CypherAst ast : asts) {
+            blackhole.consume(ast.translate(TranslatorFlavor.empty(), ProcedureContext.empty()));
+        }
+    }
+
+    /**
+     * AST to IR translation with all rewriters of the default flavor.
+     */
+    @Benchmark
+    public void rewrite(Blackhole blackhole) {
+        for (CypherAst ast : asts) {
+            blackhole.consume(ast.translate(TranslatorFlavor.gremlinServer(), ProcedureContext.empty()));
+        }
+    }
+
+    @Benchmark
+    public void writeGroovy(Blackhole blackhole) {
+        for (Seq<GremlinStep> ir : irs) {
+            Translator<String, GroovyPredicate> translator = Translator.builder()
+                .gremlinGroovy()
+                .enableCypherExtensions()
+                .build();
+            blackhole.consume(TranslationWriter.write(ir, translator, emptyMap()));
+        }
+    }
+
+    @Benchmark
+    public void writeBytecode(Blackhole blackhole) {
+        for (Seq<GremlinStep> ir : irs) {
+            Translator<Bytecode, P> translator = Translator.builder()
+                .bytecode()
+                .enableCypherExtensions()
+                .enableSharedFragments()
+                .build();
+            blackhole.consume(TranslationWriter.write(ir, translator, emptyMap()));
+        }
+    }
+
+    @Benchmark
+    public void writeTraversal(Blackhole blackhole) {
+        for (Seq<GremlinStep> ir : irs) {
+            Translator<GraphTraversal, P> translator = Translator.builder()
+                .traversal(new DefaultGraphTraversal())
+                .enableCypherExtensions()
+                .build();
+            blackhole.consume(TranslationWriter.write(ir, translator, emptyMap()));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.emptyMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import scala.collection.Seq;
+
+/**
+ * Runs variable length path expansions on a generated TinkerGraph
+ * where every vertex has {@code degree} outgoing relationships to random vertices.
+ * Queries are translated once, only traversal construction and execution are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VariableLengthPathBenchmark {
+
+    @Param({"10000"})
+    public int vertices;
+
+    @Param({"5"})
+    public int degree;
+
+    private TinkerGraph graph;
+    private GraphTraversalSource g;
+    private Seq<GremlinStep> byVariablePath;
+    private Seq<GremlinStep> byNamedVariablePath;
+    private Seq<GremlinStep> byOrderedPaths;
+    private Seq<GremlinStep> byShortestPath;
+    private Seq<GremlinStep> byAllShortestPaths;
+
+    @Setup
+    public void setup() {
+        graph = TinkerGraph.open();
+        graph.createIndex("name", Vertex.class);
+        List<Vertex> created = new ArrayList<>(vertices);
+        for (int i = 0; i < vertices; i++) {
+            created.add(graph.addVertex(T.label, "person", "name", "p" + i));
+        }
+        Random random = new Random(42);
+        for (Vertex vertex : created) {
+            for (int i = 0; i < degree; i++) {
+                vertex.addEdge("knows", created.get(random.nextInt(vertices)));
+            }
+        }
+        g = graph.traversal();
+
+        TranslatorFlavor flavor = TranslatorFlavor.gremlinServer();
+        byVariablePath = translate(flavor,
+            "MATCH (a:person {name: 'p0'})-[:knows*1..4]->(b) RETURN count(b)");
+        byNamedVariablePath = translate(flavor,
+            "MATCH p = (a:person {name: 'p0'})-[:knows*1..4]->(b) RETURN length(p)");
+        byOrderedPaths = translate(flavor,
+            "MATCH p = (a:person {name: 'p0'})-[:knows*..6]->(b:person {name: 'p5000'}) " +
+                "RETURN length(p) AS length ORDER BY length LIMIT 1");
+        byShortestPath = translate(flavor,
+            "MATCH (a:person {name: 'p0'}), (b:person {name: 'p5000'}), p = shortestPath((a)-[:knows*]->(b)) " +
+                "RETURN length(p)");
+        byAllShortestPaths = translate(flavor,
+            "MATCH (a:person {name: 'p0'}), (b:person {name: 'p5000'}), p = allShortestPaths((a)-[:knows*]->(b)) " +
+                "RETURN length(p)");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        graph.close();
+    }
+
+    @Benchmark
+    public void byVariablePath(Blackhole blackhole) {
+        run(byVariablePath, blackhole);
+    }
+
+    @Benchmark
+    public void byNamedVariablePath(Blackhole blackhole) {
+        run(byNamedVariablePath, blackhole);
+    }
+
+    @Benchmark
+    public void byOrderedPaths(Blackhole blackhole) {
+        run(byOrderedPaths, blackhole);
+    }
+
+    @Benchmark
+    public void byShortestPath(Blackhole blackhole) {
+        run(byShortestPath, blackhole);
+    }
+
+    @Benchmark
+    public void byAllShortestPaths(Blackhole blackhole) {
+        run(byAllShortestPaths, blackhole);
+    }
+
+    private void run(Seq<GremlinStep> ir, Blackhole blackhole) {
+        Translator<GraphTraversal, P> translator = Translator.builder()
+            .traversal(new DefaultGraphTraversal(g.clone()))
+            .enableCypherExtensions()
+            .build();
+        GraphTraversal<?, ?> traversal = TranslationWriter.write(ir, translator, emptyMap());
+        traversal.forEachRemaining(blackhole::consume);
+    }
+
+    private static Seq<GremlinStep> translate(TranslatorFlavor flavor, String cypher) {
+        return CypherAst.parse(cypher).translate(flavor, ProcedureContext.empty());
+    }
+}
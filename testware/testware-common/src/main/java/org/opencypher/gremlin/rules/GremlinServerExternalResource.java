@@ -87,6 +87,7 @@ public class GremlinServerExternalResource extends ExternalResource {
                 return CypherGremlinClient.bytecode(gremlinClient.alias("g"), () -> Translator.builder()
                     .bytecode()
                     .enableCypherExtensions()
+                    .enableSharedFragments()
                     .build());
             case "cosmosdb":
                 return CypherGremlinClient.translating(gremlinClient, () -> Translator.builder()
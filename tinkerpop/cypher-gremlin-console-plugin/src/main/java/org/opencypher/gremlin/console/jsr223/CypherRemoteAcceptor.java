@@ -34,6 +34,7 @@ import org.opencypher.gremlin.client.CypherGremlinClient;
 import org.opencypher.gremlin.client.CypherResultSet;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorConfiguration;
 import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 /**
@@ -70,48 +71,48 @@ public class CypherRemoteAcceptor implements RemoteAcceptor {
 
     private static CypherGremlinClient configureClient(Client gremlinClient, List<String> args) {
         if (args.contains(TOKEN_TRANSLATE)) {
-            Translator<String, GroovyPredicate> translator = translatorByName(args);
-            return CypherGremlinClient.translating(gremlinClient, () -> translator);
+            TranslatorConfiguration<String, GroovyPredicate> configuration = translatorByName(args);
+            return CypherGremlinClient.translating(gremlinClient, configuration::newTranslator);
         } else {
             return CypherGremlinClient.plugin(gremlinClient);
         }
     }
 
-    private static Translator<String, GroovyPredicate> translatorByName(List<String> args) {
+    private static TranslatorConfiguration<String, GroovyPredicate> translatorByName(List<String> args) {
         int translatorTypeIndex = args.indexOf(TOKEN_TRANSLATE) + 1;
         Translator.ParametrizedFlavorBuilder<String, GroovyPredicate> builder = Translator.builder().gremlinGroovy();
         if (translatorTypeIndex >= args.size()) {
-            return builder.build();
+            return builder.buildConfiguration();
         }
         String translatorType = args.get(translatorTypeIndex);
         switch (translatorType) {
             case "cosmosdb":
                 return builder
-                    .build(TranslatorFlavor.cosmosDb());
+                    .buildConfiguration(TranslatorFlavor.cosmosDb());
             case "cosmosdb+extensions":
                 return builder
                     .enableCypherExtensions()
-                    .build(TranslatorFlavor.cosmosDb());
+                    .buildConfiguration(TranslatorFlavor.cosmosDb());
             case "neptune":
                 return builder
                     .inlineParameters()
                     .enableMultipleLabels()
-                    .build(TranslatorFlavor.neptune());
+                    .buildConfiguration(TranslatorFlavor.neptune());
             case "neptune+extensions":
                 return builder
                     .inlineParameters()
                     .enableMultipleLabels()
                     .enableCypherExtensions()
-                    .build(TranslatorFlavor.neptune());
+                    .buildConfiguration(TranslatorFlavor.neptune());
             case "gremlin":
                 return builder
-                    .build(TranslatorFlavor.gremlinServer());
+                    .buildConfiguration(TranslatorFlavor.gremlinServer());
             case "gremlin+extensions":
                 return builder
                     .enableCypherExtensions()
-                    .build(TranslatorFlavor.gremlinServer());
+                    .buildConfiguration(TranslatorFlavor.gremlinServer());
             case "":
-                return builder.build(TranslatorFlavor.gremlinServer());
+                return builder.buildConfiguration(TranslatorFlavor.gremlinServer());
             default:
                 throw new IllegalArgumentException("Unknown translator type: " + translatorType);
         }
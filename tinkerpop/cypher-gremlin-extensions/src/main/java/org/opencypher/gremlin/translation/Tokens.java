@@ -27,6 +27,8 @@ public final class Tokens {
     public static final String PATH_START = "  cypher.path.start.";
     public static final String MATCH_START = "  cypher.match.start.";
     public static final String MATCH_END = "  cypher.match.end.";
+    public static final String SHORTEST_PATH_LENGTH = "  cypher.shortest.length";
+    public static final String SHORTEST_PATH_VERTICES = "  cypher.shortest.vertices";
 
     public static final String PROJECTION_RELATIONSHIP = "  cypher.relationship";
     public static final String PROJECTION_ELEMENT = "  cypher.element";
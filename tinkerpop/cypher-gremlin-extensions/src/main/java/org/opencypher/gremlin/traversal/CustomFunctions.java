@@ -22,6 +22,8 @@ import static org.opencypher.gremlin.translation.Tokens.PROJECTION_ID;
 import static org.opencypher.gremlin.translation.Tokens.PROJECTION_INV;
 import static org.opencypher.gremlin.translation.Tokens.PROJECTION_OUTV;
 import static org.opencypher.gremlin.translation.Tokens.PROJECTION_RELATIONSHIP;
+import static org.opencypher.gremlin.translation.Tokens.SHORTEST_PATH_LENGTH;
+import static org.opencypher.gremlin.translation.Tokens.SHORTEST_PATH_VERTICES;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,9 +40,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.opencypher.gremlin.translation.Tokens;
 import org.opencypher.gremlin.translation.exception.ConstraintException;
 import org.opencypher.gremlin.translation.exception.CypherExceptions;
@@ -411,6 +415,39 @@ public final class CustomFunctions {
         };
     }
 
+    /**
+     * Arguments are start and end vertices, relationship direction, minimum and maximum number of hops
+     * (negative for no limit), followed by relationship types.
+     * The result is a map with shortest path length and vertices on shortest paths,
+     * or a null token if the vertices are not connected.
+     */
+    public static Function<Traverser, Object> cypherShortestPath() {
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+            Object start = args.get(0);
+            Object end = args.get(1);
+            if (!(start instanceof Vertex) || !(end instanceof Vertex)) {
+                return Tokens.NULL;
+            }
+
+            Direction direction = Direction.valueOf((String) args.get(2));
+            int minHops = ((Number) args.get(3)).intValue();
+            int maxHops = ((Number) args.get(4)).intValue();
+            String[] types = args.subList(5, args.size()).toArray(new String[0]);
+
+            ShortestPathSearch.Result result = new ShortestPathSearch(direction, types)
+                .search((Vertex) start, (Vertex) end, minHops, maxHops);
+            if (result == null) {
+                return Tokens.NULL;
+            }
+
+            Map<String, Object> shortestPath = new HashMap<>();
+            shortestPath.put(SHORTEST_PATH_LENGTH, (long) result.getLength());
+            shortestPath.put(SHORTEST_PATH_VERTICES, result.getVertices());
+            return shortestPath;
+        };
+    }
+
     public static Function<Traverser, Object> cypherException() {
         return traverser -> {
             String message = CypherExceptions.messageByName(traverser.get());
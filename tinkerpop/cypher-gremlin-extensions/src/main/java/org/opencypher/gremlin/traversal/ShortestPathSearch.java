@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+/**
+ * Bidirectional breadth-first search of shortest paths between two vertices.
+ * <p>
+ * The search expands one level at a time from the side with the smaller frontier,
+ * and stops at the first level where frontiers meet,
+ * so it visits far fewer vertices than a search from the start vertex only.
+ */
+final class ShortestPathSearch {
+    private final Direction direction;
+    private final String[] types;
+
+    ShortestPathSearch(Direction direction, String[] types) {
+        this.direction = direction;
+        this.types = types;
+    }
+
+    /**
+     * Finds shortest paths from start to end vertex.
+     *
+     * @param start   start vertex
+     * @param end     end vertex
+     * @param minHops minimum path length, either 0 or 1
+     * @param maxHops maximum path length, or a negative number for no limit
+     * @return search result, or null if there is no path
+     */
+    Result search(Vertex start, Vertex end, int minHops, int maxHops) {
+        if (start.equals(end)) {
+            return minHops == 0 ? new Result(0, Collections.singleton(start)) : null;
+        }
+
+        Map<Vertex, Integer> forward = new HashMap<>();
+        Map<Vertex, Integer> backward = new HashMap<>();
+        forward.put(start, 0);
+        backward.put(end, 0);
+        List<Vertex> forwardFrontier = Collections.singletonList(start);
+        List<Vertex> backwardFrontier = Collections.singletonList(end);
+        int forwardDepth = 0;
+        int backwardDepth = 0;
+
+        while (!forwardFrontier.isEmpty() && !backwardFrontier.isEmpty() &&
+            (maxHops < 0 || forwardDepth + backwardDepth < maxHops)) {
+            Set<Vertex> meeting;
+            if (forwardFrontier.size() <= backwardFrontier.size()) {
+                forwardDepth++;
+                forwardFrontier = expand(forwardFrontier, forward, forwardDepth, direction);
+                meeting = intersect(forwardFrontier, backward);
+            } else {
+                backwardDepth++;
+                backwardFrontier = expand(backwardFrontier, backward, backwardDepth, direction.opposite());
+                meeting = intersect(backwardFrontier, forward);
+            }
+            if (!meeting.isEmpty()) {
+                Set<Vertex> vertices = new HashSet<>(meeting);
+                collect(meeting, forward, forwardDepth, direction.opposite(), vertices);
+                collect(meeting, backward, backwardDepth, direction, vertices);
+                return new Result(forwardDepth + backwardDepth, vertices);
+            }
+        }
+
+        return null;
+    }
+
+    private List<Vertex> expand(List<Vertex> frontier, Map<Vertex, Integer> visited, int depth, Direction dir) {
+        List<Vertex> next = new ArrayList<>();
+        for (Vertex vertex : frontier) {
+            Iterator<Vertex> it = vertex.vertices(dir, types);
+            while (it.hasNext()) {
+                Vertex other = it.next();
+                if (!visited.containsKey(other)) {
+                    visited.put(other, depth);
+                    next.add(other);
+                }
+            }
+        }
+        return next;
+    }
+
+    private static Set<Vertex> intersect(List<Vertex> frontier, Map<Vertex, Integer> visited) {
+        Set<Vertex> meeting = new HashSet<>();
+        for (Vertex vertex : frontier) {
+            if (visited.containsKey(vertex)) {
+                meeting.add(vertex);
+            }
+        }
+        return meeting;
+    }
+
+    /**
+     * Walks from the meeting vertices back to the origin of one side of the search,
+     * following only vertices one level closer to the origin.
+     */
+    private void collect(Set<Vertex> meeting,
+                         Map<Vertex, Integer> visited,
+                         int depth,
+                         Direction dir,
+                         Set<Vertex> result) {
+        Set<Vertex> level = meeting;
+        for (int d = depth - 1; d >= 0; d--) {
+            Set<Vertex> previous = new HashSet<>();
+            for (Vertex vertex : level) {
+                Iterator<Vertex> it = vertex.vertices(dir, types);
+                while (it.hasNext()) {
+                    Vertex other = it.next();
+                    Integer otherDepth = visited.get(other);
+                    if (otherDepth != null && otherDepth == d) {
+                        previous.add(other);
+                    }
+                }
+            }
+            result.addAll(previous);
+            level = previous;
+        }
+    }
+
+    static final class Result {
+        private final int length;
+        private final Set<Vertex> vertices;
+
+        private Result(int length, Set<Vertex> vertices) {
+            this.length = length;
+            this.vertices = vertices;
+        }
+
+        /**
+         * @return length of the shortest paths
+         */
+        int getLength() {
+            return length;
+        }
+
+        /**
+         * @return vertices that lie on at least one shortest path, including start and end vertices
+         */
+        Set<Vertex> getVertices() {
+            return vertices;
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.opencypher.gremlin.client;
 
+import static java.util.Collections.emptyMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.opencypher.gremlin.client.CommonResultSets.exceptional;
 import static org.opencypher.gremlin.client.CommonResultSets.explain;
@@ -29,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.opencypher.gremlin.translation.CypherAst;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
 import org.opencypher.gremlin.traversal.ReturnNormalizer;
 
@@ -36,10 +38,21 @@ final class BytecodeCypherGremlinClient implements CypherGremlinClient {
 
     private final Client client;
     private final Supplier<Translator<Bytecode, P>> translatorSupplier;
+    private final TranslationCache translations;
+    private final boolean extractLiterals;
 
     BytecodeCypherGremlinClient(Client client, Supplier<Translator<Bytecode, P>> translatorSupplier) {
+        this(client, translatorSupplier, 0, false);
+    }
+
+    BytecodeCypherGremlinClient(Client client,
+                                Supplier<Translator<Bytecode, P>> translatorSupplier,
+                                int cacheSize,
+                                boolean extractLiterals) {
         this.client = client;
         this.translatorSupplier = translatorSupplier;
+        this.translations = new TranslationCache(cacheSize);
+        this.extractLiterals = extractLiterals;
     }
 
     @Override
@@ -50,27 +63,40 @@ final class BytecodeCypherGremlinClient implements CypherGremlinClient {
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(String cypher, Map<String, ?> parameters) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(parameters);
-        CypherAst ast;
-        try {
-            ast = CypherAst.parse(cypher, normalizedParameters);
-        } catch (Exception e) {
-            return completedFuture(exceptional(e));
-        }
+        Translator<Bytecode, P> translator = translatorSupplier.get();
+        TranslatorFlavor flavor = translator.flavor();
+        TranslationCache.Translation translation = translations.get(cypher, flavor, normalizedParameters);
+        if (translation == null) {
+            CypherAst ast;
+            try {
+                ast = CypherAst.parse(cypher, normalizedParameters, emptyMap(), extractLiterals);
+            } catch (Exception e) {
+                return completedFuture(exceptional(e));
+            }
 
-        if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
+            if (ast.getOptions().contains(EXPLAIN)) {
+                return completedFuture(explain(cypher, normalizedParameters, flavor, extractLiterals));
+            }
+
+            try {
+                translation = extractLiterals
+                    ? translations.putExtracted(cypher, flavor, normalizedParameters, ast)
+                    : translations.put(cypher, flavor, normalizedParameters, ast);
+            } catch (Exception e) {
+                return completedFuture(exceptional(e));
+            }
         }
+        normalizedParameters.putAll(translation.getExtractedParameters());
 
-        Translator<Bytecode, P> translator = translatorSupplier.get();
         Bytecode bytecode;
         try {
-            bytecode = ast.buildTranslation(translator);
+            bytecode = translation.write(translator, normalizedParameters);
         } catch (Exception e) {
             return completedFuture(exceptional(e));
         }
 
         CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(bytecode);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(translation.getReturnTypes());
         return resultSetFuture
             .thenApply(ResultSet::iterator)
             .thenApply(resultIterator -> new CypherResultSet(
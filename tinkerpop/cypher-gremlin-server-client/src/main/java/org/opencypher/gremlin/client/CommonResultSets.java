@@ -15,6 +15,8 @@
  */
 package org.opencypher.gremlin.client;
 
+import static java.util.Collections.emptyMap;
+
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -22,21 +24,36 @@ import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.TranslationProfile;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 final class CommonResultSets {
     private CommonResultSets() {
     }
 
-    static CypherResultSet explain(CypherAst ast) {
-        Map<String, Object> explanation = new LinkedHashMap<>();
+    /**
+     * Explains a query with a profile of its translation.
+     * The query is translated again, bypassing translation caches,
+     * so that the profile covers all translation phases.
+     * The query is translated with the flavor and literal extraction mode of the client,
+     * like queries that are executed.
+     */
+    static CypherResultSet explain(String cypher,
+                                   Map<String, Object> parameters,
+                                   TranslatorFlavor flavor,
+                                   boolean extractLiterals) {
+        TranslationProfile profile = new TranslationProfile();
+        CypherAst ast = CypherAst.parse(cypher, parameters, emptyMap(), extractLiterals, profile);
         Translator<String, GroovyPredicate> translator = Translator.builder()
             .gremlinGroovy()
             .inlineParameters()
-            .build();
-        explanation.put("translation", ast.buildTranslation(translator));
+            .build(flavor);
+        Map<String, Object> explanation = new LinkedHashMap<>();
+        explanation.put("translation", ast.buildTranslation(translator, profile));
         explanation.put("options", ast.getOptions().toString());
+        explanation.put("profile", profile.toMap());
         Iterator<Result> iterator = singletonIterator(() -> new Result(explanation));
         return new CypherResultSet(iterator);
     }
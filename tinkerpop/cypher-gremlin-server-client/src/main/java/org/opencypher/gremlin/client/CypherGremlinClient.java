@@ -74,7 +74,7 @@ public interface CypherGremlinClient extends Closeable {
      * @return Cypher-enabled client
      */
     static CypherGremlinClient translating(Client client, TranslatorFlavor flavor) {
-        return translating(client, () -> Translator.builder().gremlinGroovy().build(flavor));
+        return translating(client, Translator.builder().gremlinGroovy().buildConfiguration(flavor)::newTranslator);
     }
 
     /**
@@ -92,6 +92,70 @@ public interface CypherGremlinClient extends Closeable {
         return new GroovyCypherGremlinClient(client, translatorSupplier);
     }
 
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Up to {@code cacheSize} translations of recently submitted queries are reused,
+     * so that repeated parameterized queries are not parsed and translated again.
+     *
+     * @param client    Gremlin client
+     * @param flavor    translation flavor
+     * @param cacheSize maximum number of cached translations, zero disables the cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient translating(Client client, TranslatorFlavor flavor, int cacheSize) {
+        return translating(client, Translator.builder().gremlinGroovy().buildConfiguration(flavor)::newTranslator, cacheSize);
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Up to {@code cacheSize} translations of recently submitted queries are reused,
+     * so that repeated parameterized queries are not parsed and translated again.
+     *
+     * @param client             Gremlin client
+     * @param translatorSupplier translator configuration supplier
+     * @param cacheSize          maximum number of cached translations, zero disables the cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient translating(Client client,
+                                           Supplier<Translator<String, GroovyPredicate>> translatorSupplier,
+                                           int cacheSize) {
+        return translating(client, translatorSupplier, cacheSize, false);
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Up to {@code cacheSize} translations of recently submitted queries are reused.
+     * <p>
+     * With {@code extractLiterals}, literals are replaced with generated parameters before translation,
+     * so that queries that only differ in literal values share one cached translation.
+     * Translations of queries that only differ in literal values are shared on the Gremlin Server
+     * script cache as well.
+     *
+     * @param client             Gremlin client
+     * @param translatorSupplier translator configuration supplier
+     * @param cacheSize          maximum number of cached translations, zero disables the cache
+     * @param extractLiterals    whether to replace literals with parameters
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient translating(Client client,
+                                           Supplier<Translator<String, GroovyPredicate>> translatorSupplier,
+                                           int cacheSize,
+                                           boolean extractLiterals) {
+        return new GroovyCypherGremlinClient(client, translatorSupplier, cacheSize, extractLiterals);
+    }
+
     /**
      * Creates a {@link CypherGremlinClient} that can send Cypher queries
      * to any Gremlin Server or a compatible graph database as Gremlin bytecode.
@@ -118,7 +182,10 @@ public interface CypherGremlinClient extends Closeable {
      * @return Cypher-enabled client
      */
     static CypherGremlinClient bytecode(Client client, TranslatorFlavor flavor) {
-        return bytecode(client, () -> Translator.builder().bytecode().build(flavor));
+        return bytecode(client, Translator.builder()
+            .bytecode()
+            .enableSharedFragments()
+            .buildConfiguration(flavor)::newTranslator);
     }
 
     /**
@@ -136,6 +203,71 @@ public interface CypherGremlinClient extends Closeable {
         return new BytecodeCypherGremlinClient(client, translatorSupplier);
     }
 
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin bytecode.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Up to {@code cacheSize} translations of recently submitted queries are reused,
+     * so that repeated parameterized queries are not parsed and translated again.
+     *
+     * @param client    Gremlin client
+     * @param flavor    translation flavor
+     * @param cacheSize maximum number of cached translations, zero disables the cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient bytecode(Client client, TranslatorFlavor flavor, int cacheSize) {
+        return bytecode(client, Translator.builder()
+            .bytecode()
+            .enableSharedFragments()
+            .buildConfiguration(flavor)::newTranslator, cacheSize);
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin bytecode.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Up to {@code cacheSize} translations of recently submitted queries are reused,
+     * so that repeated parameterized queries are not parsed and translated again.
+     *
+     * @param client             Gremlin client
+     * @param translatorSupplier translator configuration supplier
+     * @param cacheSize          maximum number of cached translations, zero disables the cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient bytecode(Client client,
+                                        Supplier<Translator<Bytecode, P>> translatorSupplier,
+                                        int cacheSize) {
+        return bytecode(client, translatorSupplier, cacheSize, false);
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin bytecode.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Up to {@code cacheSize} translations of recently submitted queries are reused.
+     * <p>
+     * With {@code extractLiterals}, literals are replaced with generated parameters before translation,
+     * so that queries that only differ in literal values share one cached translation.
+     *
+     * @param client             Gremlin client
+     * @param translatorSupplier translator configuration supplier
+     * @param cacheSize          maximum number of cached translations, zero disables the cache
+     * @param extractLiterals    whether to replace literals with parameters
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient bytecode(Client client,
+                                        Supplier<Translator<Bytecode, P>> translatorSupplier,
+                                        int cacheSize,
+                                        boolean extractLiterals) {
+        return new BytecodeCypherGremlinClient(client, translatorSupplier, cacheSize, extractLiterals);
+    }
+
     /**
      * Creates a {@link CypherGremlinClient} that executes Cypher queries
      * directly on the configured {@link GraphTraversalSource}.
@@ -15,6 +15,7 @@
  */
 package org.opencypher.gremlin.client;
 
+import static java.util.Collections.emptyMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.opencypher.gremlin.client.CommonResultSets.exceptional;
 import static org.opencypher.gremlin.client.CommonResultSets.explain;
@@ -28,6 +29,7 @@ import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.opencypher.gremlin.translation.CypherAst;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
 import org.opencypher.gremlin.traversal.ReturnNormalizer;
 
@@ -35,10 +37,21 @@ final class GroovyCypherGremlinClient implements CypherGremlinClient {
 
     private final Client client;
     private final Supplier<Translator<String, GroovyPredicate>> translatorSupplier;
+    private final TranslationCache translations;
+    private final boolean extractLiterals;
 
     GroovyCypherGremlinClient(Client client, Supplier<Translator<String, GroovyPredicate>> translatorSupplier) {
+        this(client, translatorSupplier, 0, false);
+    }
+
+    GroovyCypherGremlinClient(Client client,
+                              Supplier<Translator<String, GroovyPredicate>> translatorSupplier,
+                              int cacheSize,
+                              boolean extractLiterals) {
         this.client = client;
         this.translatorSupplier = translatorSupplier;
+        this.translations = new TranslationCache(cacheSize);
+        this.extractLiterals = extractLiterals;
     }
 
     @Override
@@ -49,27 +62,40 @@ final class GroovyCypherGremlinClient implements CypherGremlinClient {
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(String cypher, Map<String, ?> parameters) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(parameters);
-        CypherAst ast;
-        try {
-            ast = CypherAst.parse(cypher, normalizedParameters);
-        } catch (Exception e) {
-            return completedFuture(exceptional(e));
-        }
+        Translator<String, GroovyPredicate> translator = translatorSupplier.get();
+        TranslatorFlavor flavor = translator.flavor();
+        TranslationCache.Translation translation = translations.get(cypher, flavor, normalizedParameters);
+        if (translation == null) {
+            CypherAst ast;
+            try {
+                ast = CypherAst.parse(cypher, normalizedParameters, emptyMap(), extractLiterals);
+            } catch (Exception e) {
+                return completedFuture(exceptional(e));
+            }
 
-        if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
+            if (ast.getOptions().contains(EXPLAIN)) {
+                return completedFuture(explain(cypher, normalizedParameters, flavor, extractLiterals));
+            }
+
+            try {
+                translation = extractLiterals
+                    ? translations.putExtracted(cypher, flavor, normalizedParameters, ast)
+                    : translations.put(cypher, flavor, normalizedParameters, ast);
+            } catch (Exception e) {
+                return completedFuture(exceptional(e));
+            }
         }
+        normalizedParameters.putAll(translation.getExtractedParameters());
 
-        Translator<String, GroovyPredicate> translator = translatorSupplier.get();
         String gremlin;
         try {
-            gremlin = ast.buildTranslation(translator);
+            gremlin = translation.write(translator, normalizedParameters);
         } catch (Exception e) {
             return completedFuture(exceptional(e));
         }
 
         CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(gremlin, normalizedParameters);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(translation.getReturnTypes());
         return resultSetFuture
             .thenApply(ResultSet::iterator)
             .thenApply(resultIterator -> new CypherResultSet(resultIterator, returnNormalizer::normalize));
@@ -31,6 +31,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.opencypher.gremlin.translation.CypherAst;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
 import org.opencypher.gremlin.traversal.ReturnNormalizer;
 
@@ -58,7 +59,7 @@ final class InMemoryCypherGremlinClient implements CypherGremlinClient {
         }
 
         if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
+            return completedFuture(explain(cypher, normalizedParameters, TranslatorFlavor.gremlinServer(), false));
         }
 
         DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
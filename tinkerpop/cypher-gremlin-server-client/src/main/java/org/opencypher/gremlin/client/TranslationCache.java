@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.cache.LruCache;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.opencypher.v9_0.util.symbols.CypherType;
+import scala.collection.Seq;
+
+/**
+ * Size-bounded cache of query translations keyed by query, translator flavor and parameter names.
+ * The query is either query text or, with literal extraction, the normalized statement.
+ * With literal extraction, translations are also cached by query text together with the extracted literal values,
+ * so that repeated query text is not parsed again.
+ * Parameter names are part of the key, because the translation depends on which parameters are declared.
+ * <p>
+ * Cached translations are rendered to the client's target (Gremlin-Groovy or bytecode)
+ * with the parameters of each submission, skipping parsing, semantic analysis and rewriting.
+ * Rendering is not cached, because translators may inline parameter values.
+ */
+final class TranslationCache {
+    private final LruCache<Key, Translation> cache;
+
+    TranslationCache(int maxSize) {
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    Translation get(Object query, TranslatorFlavor flavor, Map<String, Object> parameters) {
+        return cache.get(new Key(query, flavor, parameters.keySet()));
+    }
+
+    Translation put(Object query, TranslatorFlavor flavor, Map<String, Object> parameters, CypherAst ast) {
+        Seq<GremlinStep> ir = ast.translate(flavor, ProcedureContext.empty());
+        Translation translation = new Translation(ir, ast.getReturnTypes(), Collections.emptyMap());
+        cache.put(new Key(query, flavor, parameters.keySet()), translation);
+        return translation;
+    }
+
+    Translation putExtracted(String cypher, TranslatorFlavor flavor, Map<String, Object> parameters, CypherAst ast) {
+        Map<String, Object> extracted = ast.getExtractedParameters();
+        Map<String, Object> statementParameters = new HashMap<>(parameters);
+        statementParameters.putAll(extracted);
+        Object statement = ast.statement();
+        Translation statementTranslation = get(statement, flavor, statementParameters);
+        if (statementTranslation == null) {
+            statementTranslation = put(statement, flavor, statementParameters, ast);
+        }
+        Translation translation = statementTranslation.withExtractedParameters(extracted);
+        cache.put(new Key(cypher, flavor, parameters.keySet()), translation);
+        return translation;
+    }
+
+    static final class Translation {
+        private final Seq<GremlinStep> ir;
+        private final Map<String, CypherType> returnTypes;
+        private final Map<String, Object> extractedParameters;
+
+        private Translation(Seq<GremlinStep> ir,
+                            Map<String, CypherType> returnTypes,
+                            Map<String, Object> extractedParameters) {
+            this.ir = ir;
+            this.returnTypes = returnTypes;
+            this.extractedParameters = extractedParameters;
+        }
+
+        private Translation withExtractedParameters(Map<String, Object> extractedParameters) {
+            return new Translation(ir, returnTypes, Collections.unmodifiableMap(new HashMap<>(extractedParameters)));
+        }
+
+        <T, P> T write(Translator<T, P> translator, Map<String, Object> parameters) {
+            return TranslationWriter.write(ir, translator, parameters);
+        }
+
+        Map<String, CypherType> getReturnTypes() {
+            return returnTypes;
+        }
+
+        Map<String, Object> getExtractedParameters() {
+            return extractedParameters;
+        }
+    }
+
+    private static final class Key {
+        private final Object query;
+        private final TranslatorFlavor flavor;
+        private final Set<String> parameterNames;
+        private final int hashCode;
+
+        private Key(Object query, TranslatorFlavor flavor, Set<String> parameterNames) {
+            this.query = query;
+            this.flavor = flavor;
+            this.parameterNames = new TreeSet<>(parameterNames);
+            this.hashCode = Objects.hash(query, flavor, this.parameterNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(query, key.query) &&
+                Objects.equals(flavor, key.flavor) &&
+                Objects.equals(parameterNames, key.parameterNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -15,17 +15,29 @@
  */
 package org.opencypher.gremlin.server.op.cypher;
 
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
 import static org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode.SERVER_ERROR;
+import static org.opencypher.gremlin.translation.SelectivityEstimator.HEURISTIC;
 import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import io.netty.channel.ChannelHandlerContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
@@ -39,15 +51,25 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSo
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
+import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
+import org.opencypher.gremlin.extension.CypherProcedureSignature;
 import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.GraphStatistics;
+import org.opencypher.gremlin.translation.SelectivityEstimator;
+import org.opencypher.gremlin.translation.TranslationListener;
+import org.opencypher.gremlin.translation.TranslationProfile;
+import org.opencypher.gremlin.translation.cache.LruCache;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.ir.TranslationWriter;
 import org.opencypher.gremlin.translation.ir.model.GremlinStep;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorConfiguration;
 import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
 import org.opencypher.gremlin.traversal.ProcedureContext;
@@ -70,10 +92,173 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
 
     private static final Logger logger = getLogger(CypherOpProcessor.class);
 
+    private static final TranslatorConfiguration<String, GroovyPredicate> GROOVY_TRANSLATOR = Translator.builder()
+        .gremlinGroovy()
+        .inlineParameters()
+        .enableCypherExtensions()
+        .buildConfiguration();
+
+    /**
+     * Maximum number of cached query translations, zero disables the cache.
+     */
+    public static final String CONFIG_PLAN_CACHE_SIZE = "planCacheSize";
+    public static final int DEFAULT_PLAN_CACHE_SIZE = 1000;
+
+    /**
+     * Every n-th query is logged at INFO level, zero disables query logging.
+     * All queries and their translations are logged at DEBUG level.
+     */
+    public static final String CONFIG_QUERY_LOG_SAMPLING = "queryLogSampling";
+    public static final int DEFAULT_QUERY_LOG_SAMPLING = 1;
+
+    /**
+     * Replace literals with parameters, so that queries that only differ in literal values share a translation.
+     */
+    public static final String CONFIG_EXTRACT_LITERALS = "extractLiterals";
+
+    /**
+     * Path to a YAML file of representative queries that are translated at startup to fill the plan cache.
+     *
+     * @see WarmUpQuery
+     */
+    public static final String CONFIG_WARM_UP_QUERIES = "warmUpQueries";
+
+    /**
+     * Also execute warm-up queries against an empty graph, so that traversal execution is warmed up too.
+     */
+    public static final String CONFIG_WARM_UP_EXECUTE = "warmUpExecute";
+
+    /**
+     * Interval in seconds between collections of graph statistics, that are used to order match patterns.
+     * Zero disables statistics.
+     *
+     * @see GraphStatistics
+     */
+    public static final String CONFIG_STATISTICS_REFRESH_INTERVAL = "statisticsRefreshInterval";
+
+    /**
+     * Maximum number of relationships in variable length patterns without an upper bound, like {@code -[*]->}.
+     */
+    public static final String CONFIG_HOP_LIMIT = "hopLimit";
+
+    private CypherPlanCache planCache = new CypherPlanCache(DEFAULT_PLAN_CACHE_SIZE);
+    private boolean extractLiterals = false;
+    private int queryLogSampling = DEFAULT_QUERY_LOG_SAMPLING;
+    private final AtomicLong queryCount = new AtomicLong();
+    private StatisticsCatalog statistics = null;
+    private List<WarmUpQuery> warmUpQueries = emptyList();
+    private TranslatorFlavor flavor = TranslatorFlavor.gremlinServer();
+
     public CypherOpProcessor() {
         super(true);
     }
 
+    @Override
+    public void init(Settings settings) {
+        Map<String, Object> config = settings.optionalProcessor(CypherOpProcessor.class)
+            .map(processorSettings -> processorSettings.config)
+            .orElse(emptyMap());
+
+        int planCacheSize = ((Number) config.getOrDefault(CONFIG_PLAN_CACHE_SIZE, DEFAULT_PLAN_CACHE_SIZE)).intValue();
+        planCache = new CypherPlanCache(planCacheSize);
+        registerPlanCacheMetrics(planCache.stats());
+        logger.info("Cypher plan cache size: {}", planCacheSize);
+
+        extractLiterals = (Boolean) config.getOrDefault(CONFIG_EXTRACT_LITERALS, false);
+        logger.info("Cypher literal extraction: {}", extractLiterals ? "enabled" : "disabled");
+
+        queryLogSampling = ((Number) config.getOrDefault(CONFIG_QUERY_LOG_SAMPLING, DEFAULT_QUERY_LOG_SAMPLING))
+            .intValue();
+        if (queryLogSampling < 0) {
+            throw new IllegalArgumentException("Query log sampling must not be negative: " + queryLogSampling);
+        }
+
+        long statisticsRefreshInterval = ((Number) config.getOrDefault(CONFIG_STATISTICS_REFRESH_INTERVAL, 0))
+            .longValue();
+        if (statisticsRefreshInterval < 0) {
+            throw new IllegalArgumentException(
+                "Statistics refresh interval must not be negative: " + statisticsRefreshInterval);
+        }
+        if (statisticsRefreshInterval > 0) {
+            statistics = new StatisticsCatalog(statisticsRefreshInterval, TimeUnit.SECONDS, this::replanWarmUp);
+            logger.info("Cypher statistics refresh interval: {} s", statisticsRefreshInterval);
+        }
+
+        int hopLimit = ((Number) config.getOrDefault(CONFIG_HOP_LIMIT, TranslatorFlavor.DefaultHopLimit()))
+            .intValue();
+        flavor = TranslatorFlavor.gremlinServer().withHopLimit(hopLimit);
+        logger.info("Cypher variable length hop limit: {}", hopLimit);
+
+        String warmUpPath = (String) config.get(CONFIG_WARM_UP_QUERIES);
+        if (warmUpPath != null) {
+            try {
+                warmUpQueries = WarmUpQuery.load(warmUpPath);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read warm-up queries: " + warmUpPath, e);
+            }
+            boolean warmUpExecute = (Boolean) config.getOrDefault(CONFIG_WARM_UP_EXECUTE, false);
+            warmUp(HEURISTIC, warmUpExecute);
+        }
+    }
+
+    /**
+     * Plans warm-up queries again with refreshed statistics,
+     * so that the plans evalCypher looks up with the same estimator are already cached.
+     */
+    private void replanWarmUp(SelectivityEstimator selectivity) {
+        if (!warmUpQueries.isEmpty()) {
+            warmUp(selectivity, false);
+        }
+    }
+
+    private void warmUp(SelectivityEstimator selectivity, boolean execute) {
+        long start = System.nanoTime();
+        GraphTraversalSource gts = EmptyGraph.instance().traversal();
+        int failed = 0;
+        for (WarmUpQuery query : warmUpQueries) {
+            Map<String, Object> parameters = ParameterNormalizer.normalize(query.getParameters());
+            CypherPlan plan;
+            try {
+                plan = plan(query.getCypher(), parameters, flavor, ProcedureContext.global(), selectivity);
+            } catch (Exception e) {
+                failed++;
+                logger.warn("Unable to translate warm-up query: {}", query.getCypher(), e);
+                continue;
+            }
+            if (execute && !plan.getOptions().contains(EXPLAIN)) {
+                try {
+                    Translator<GraphTraversal, P> traversalTranslator = Translator.builder()
+                        .traversal(new DefaultGraphTraversal(gts.clone()))
+                        .enableCypherExtensions()
+                        .build();
+                    GraphTraversal<?, ?> traversal =
+                        TranslationWriter.write(plan.getIr(), traversalTranslator, parameters);
+                    ReturnNormalizer returnNormalizer = ReturnNormalizer.create(plan.getReturnTypes());
+                    traversal.map(returnNormalizer::normalize).iterate();
+                } catch (Exception e) {
+                    // write queries are not supported by the empty graph
+                    logger.debug("Unable to execute warm-up query: {}", query.getCypher(), e);
+                }
+            }
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("Cypher warm-up: {} queries in {} ms, {} failed", warmUpQueries.size(), millis, failed);
+    }
+
+    private static void registerPlanCacheMetrics(LruCache<?, ?> stats) {
+        registerGauge("size", stats::size);
+        registerGauge("hits", stats::hits);
+        registerGauge("misses", stats::misses);
+        registerGauge("evictions", stats::evictions);
+    }
+
+    private static <T> void registerGauge(String metric, Gauge<T> gauge) {
+        MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+        String name = name(CypherOpProcessor.class, "planCache", metric);
+        registry.remove(name);
+        registry.register(name, gauge);
+    }
+
     @Override
     public String getName() {
         return "cypher";
@@ -92,42 +277,90 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
     private void evalCypher(Context context) throws OpProcessorException {
         Map<String, Object> args = context.getRequestMessage().getArgs();
         String cypher = (String) args.get(Tokens.ARGS_GREMLIN);
-        logger.info("Cypher: {}", cypher.replaceAll("\n", " "));
+        logQuery(cypher);
 
         GraphTraversalSource gts = traversal(context);
         DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
         Map<String, Object> parameters = ParameterNormalizer.normalize(getParameters(args));
         ProcedureContext procedureContext = ProcedureContext.global();
-        CypherAst ast = CypherAst.parse(cypher, parameters, procedureContext.getSignatures());
-
-        TranslatorFlavor flavor = TranslatorFlavor.gremlinServer();
-        Seq<GremlinStep> ir = ast.translate(flavor, procedureContext);
-
-        Translator<String, GroovyPredicate> stringTranslator = Translator.builder()
-            .gremlinGroovy()
-            .inlineParameters()
-            .enableCypherExtensions()
-            .build();
+        SelectivityEstimator selectivity = statistics != null ? statistics.get(gts) : HEURISTIC;
 
-        String gremlin = TranslationWriter.write(ir, stringTranslator, parameters);
-        logger.info("Gremlin: {}", gremlin);
+        CypherPlan plan = plan(cypher, parameters, flavor, procedureContext, selectivity);
+        Seq<GremlinStep> ir = plan.getIr();
 
-        if (ast.getOptions().contains(EXPLAIN)) {
-            explainQuery(context, ast, gremlin);
+        if (plan.getOptions().contains(EXPLAIN)) {
+            explainQuery(context, cypher, parameters, flavor, procedureContext, selectivity);
             return;
         }
 
+        if (logger.isDebugEnabled()) {
+            logger.debug("Gremlin: {}", toGroovy(ir, parameters));
+        }
+
         Translator<GraphTraversal, P> traversalTranslator = Translator.builder()
             .traversal(g)
             .enableCypherExtensions()
             .build();
 
         GraphTraversal<?, ?> traversal = TranslationWriter.write(ir, traversalTranslator, parameters);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(plan.getReturnTypes());
         Traversal<?, Map<String, Object>> normalizedTraversal = traversal.map(returnNormalizer::normalize);
         inTransaction(gts, () -> handleIterator(context, normalizedTraversal));
     }
 
+    /**
+     * Looks up a cached plan or translates the query.
+     * With literal extraction, extracted literals are added to the parameters.
+     * Plans are cached by query text and, with literal extraction, also by normalized statement,
+     * so that repeated query text skips parsing and queries that only differ in literals share a translation.
+     * Plans are cached per selectivity estimator, so that refreshed statistics produce new plans.
+     */
+    private CypherPlan plan(String cypher,
+                            Map<String, Object> parameters,
+                            TranslatorFlavor flavor,
+                            ProcedureContext procedureContext,
+                            SelectivityEstimator selectivity) {
+        if (extractLiterals) {
+            CypherPlan plan = planCache.get(cypher, flavor, selectivity, parameters, () -> {
+                CypherAst ast = CypherAst.parse(cypher, parameters, procedureContext.getSignatures(), true);
+                Map<String, Object> extracted = ast.getExtractedParameters();
+                Map<String, Object> statementParameters = new HashMap<>(parameters);
+                statementParameters.putAll(extracted);
+                Supplier<CypherPlan> planner = () -> CypherPlan.translate(ast, flavor, procedureContext, selectivity);
+                CypherPlan statementPlan = ast.getOptions().contains(EXPLAIN) ?
+                    planner.get() :
+                    planCache.get(ast.statement(), flavor, selectivity, statementParameters, planner);
+                return statementPlan.withExtractedParameters(extracted);
+            });
+            parameters.putAll(plan.getExtractedParameters());
+            return plan;
+        } else {
+            return planCache.get(cypher, flavor, selectivity, parameters, () -> {
+                CypherAst ast = CypherAst.parse(cypher, parameters, procedureContext.getSignatures());
+                return CypherPlan.translate(ast, flavor, procedureContext, selectivity);
+            });
+        }
+    }
+
+    private void logQuery(String cypher) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Cypher: {}", cypher);
+        } else if (queryLogSampling > 0 && logger.isInfoEnabled()
+            && queryCount.getAndIncrement() % queryLogSampling == 0) {
+            logger.info("Cypher: {}", cypher.replace('\n', ' '));
+        }
+    }
+
+    private static String toGroovy(Seq<GremlinStep> ir, Map<String, Object> parameters) {
+        return toGroovy(ir, parameters, TranslationListener.NONE);
+    }
+
+    private static String toGroovy(Seq<GremlinStep> ir,
+                                   Map<String, Object> parameters,
+                                   TranslationListener listener) {
+        return TranslationWriter.write(ir, GROOVY_TRANSLATOR.newTranslator(), parameters, listener);
+    }
+
     private void inTransaction(GraphTraversalSource gts, Runnable runnable) {
         Graph graph = gts.getGraph();
         boolean supportsTransactions = graph.features().graph().supportsTransactions();
@@ -199,10 +432,25 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
         }
     }
 
-    private void explainQuery(Context context, CypherAst ast, String gremlin) {
+    /**
+     * Explains a query with a profile of its translation.
+     * The query is translated again, bypassing the plan cache,
+     * so that the profile covers all translation phases.
+     */
+    private void explainQuery(Context context,
+                              String cypher,
+                              Map<String, Object> parameters,
+                              TranslatorFlavor flavor,
+                              ProcedureContext procedureContext,
+                              SelectivityEstimator selectivity) {
+        TranslationProfile profile = new TranslationProfile();
+        Map<String, CypherProcedureSignature> signatures = procedureContext.getSignatures();
+        CypherAst ast = CypherAst.parse(cypher, parameters, signatures, extractLiterals, profile);
+        Seq<GremlinStep> ir = ast.translate(flavor, procedureContext, selectivity, profile);
         Map<String, Object> explanation = new LinkedHashMap<>();
-        explanation.put("translation", gremlin);
+        explanation.put("translation", toGroovy(ir, parameters, profile));
         explanation.put("options", ast.getOptions().toString());
+        explanation.put("profile", profile.toMap());
 
         ResponseMessage explainMsg = ResponseMessage.build(context.getRequestMessage())
             .code(ResponseStatusCode.SUCCESS)
@@ -216,7 +464,9 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
 
     @Override
     public void close() {
-        // do nothing = no resources to release
+        if (statistics != null) {
+            statistics.close();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.SelectivityEstimator;
+import org.opencypher.gremlin.translation.StatementOption;
+import org.opencypher.gremlin.translation.TranslationListener;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+import org.opencypher.v9_0.util.symbols.CypherType;
+import scala.collection.Seq;
+
+/**
+ * Result of the translation front end that is needed to execute a Cypher query:
+ * rewritten intermediate representation, return types and statement options.
+ * The intermediate representation refers to parameters by name,
+ * so a plan can be executed with any parameter values.
+ * Plans of queries with extracted literals also carry the extracted values,
+ * so that repeated query text can be executed without parsing.
+ */
+final class CypherPlan {
+    private final Seq<GremlinStep> ir;
+    private final Map<String, CypherType> returnTypes;
+    private final Set<StatementOption> options;
+    private final Map<String, Object> extractedParameters;
+
+    private CypherPlan(Seq<GremlinStep> ir,
+                       Map<String, CypherType> returnTypes,
+                       Set<StatementOption> options,
+                       Map<String, Object> extractedParameters) {
+        this.ir = ir;
+        this.returnTypes = returnTypes;
+        this.options = options;
+        this.extractedParameters = extractedParameters;
+    }
+
+    static CypherPlan translate(CypherAst ast,
+                                TranslatorFlavor flavor,
+                                ProcedureContext procedureContext,
+                                SelectivityEstimator selectivity) {
+        Seq<GremlinStep> ir = ast.translate(flavor, procedureContext, selectivity, TranslationListener.NONE);
+        return new CypherPlan(
+            ir,
+            ast.getReturnTypes(),
+            ast.getOptions(),
+            Collections.emptyMap()
+        );
+    }
+
+    CypherPlan withExtractedParameters(Map<String, Object> extractedParameters) {
+        return new CypherPlan(ir, returnTypes, options, Collections.unmodifiableMap(extractedParameters));
+    }
+
+    Seq<GremlinStep> getIr() {
+        return ir;
+    }
+
+    Map<String, CypherType> getReturnTypes() {
+        return returnTypes;
+    }
+
+    Set<StatementOption> getOptions() {
+        return options;
+    }
+
+    Map<String, Object> getExtractedParameters() {
+        return extractedParameters;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.opencypher.gremlin.translation.SelectivityEstimator;
+import org.opencypher.gremlin.translation.cache.LruCache;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+
+/**
+ * Bounded cache of {@link CypherPlan}s keyed by query, translator flavor,
+ * selectivity estimator and parameter type signature.
+ * The query is query text and, with literal extraction, also the normalized statement.
+ * <p>
+ * Repeated queries skip parsing, semantic analysis, normalization and IR rewriting.
+ */
+final class CypherPlanCache {
+    private final LruCache<Key, CypherPlan> cache;
+
+    CypherPlanCache(int maxSize) {
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Looks up a cached plan or creates one with the provided planner.
+     *
+     * @param query       query text or normalized statement
+     * @param flavor      translator flavor
+     * @param selectivity selectivity estimator
+     * @param parameters  normalized query parameters
+     * @param planner     plan factory for cache misses
+     * @return query plan
+     */
+    CypherPlan get(Object query,
+                   TranslatorFlavor flavor,
+                   SelectivityEstimator selectivity,
+                   Map<String, Object> parameters,
+                   Supplier<CypherPlan> planner) {
+        Key key = new Key(query, flavor, selectivity, parameterTypes(parameters));
+        return cache.computeIfAbsent(key, k -> planner.get());
+    }
+
+    LruCache<?, ?> stats() {
+        return cache;
+    }
+
+    private static Map<String, String> parameterTypes(Map<String, Object> parameters) {
+        Map<String, String> types = new TreeMap<>();
+        parameters.forEach((name, value) -> {
+            String type = value == null ? "null" : value.getClass().getName();
+            types.put(name, type);
+        });
+        return types;
+    }
+
+    private static final class Key {
+        private final Object query;
+        private final TranslatorFlavor flavor;
+        private final SelectivityEstimator selectivity;
+        private final Map<String, String> parameterTypes;
+        private final int hashCode;
+
+        private Key(Object query,
+                    TranslatorFlavor flavor,
+                    SelectivityEstimator selectivity,
+                    Map<String, String> parameterTypes) {
+            this.query = query;
+            this.flavor = flavor;
+            this.selectivity = selectivity;
+            this.parameterTypes = parameterTypes;
+            this.hashCode = Objects.hash(query, flavor, selectivity, parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(query, key.query) &&
+                Objects.equals(flavor, key.flavor) &&
+                Objects.equals(selectivity, key.selectivity) &&
+                Objects.equals(parameterTypes, key.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
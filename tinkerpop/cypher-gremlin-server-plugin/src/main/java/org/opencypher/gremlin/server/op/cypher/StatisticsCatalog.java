@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.opencypher.gremlin.translation.GraphStatistics;
+import org.opencypher.gremlin.translation.SelectivityEstimator;
+import org.slf4j.Logger;
+
+/**
+ * Statistics of the graphs that queries are run against.
+ * Statistics of a graph are collected in the background when the graph is first queried,
+ * and again on the first query after the refresh interval has passed.
+ * Until the first collection completes, queries are translated with {@link SelectivityEstimator#HEURISTIC}.
+ * Statistics that differ from the previous collection are passed to a listener, that can plan queries ahead.
+ * Statistics are compared by orders of magnitude of the counts, see {@link GraphStatistics#equals(Object)},
+ * so the previous statistics and the plans translated with them are kept after most writes.
+ */
+final class StatisticsCatalog implements AutoCloseable {
+    private static final Logger logger = getLogger(StatisticsCatalog.class);
+
+    private final long refreshNanos;
+    private final ExecutorService executor;
+    private final Consumer<SelectivityEstimator> listener;
+    private final Map<Graph, Entry> entries = new ConcurrentHashMap<>();
+
+    StatisticsCatalog(long refreshInterval, TimeUnit unit, Consumer<SelectivityEstimator> listener) {
+        this.refreshNanos = unit.toNanos(refreshInterval);
+        this.listener = listener;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cypher-statistics");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the latest statistics of a graph, scheduling a collection if they are missing or outdated.
+     *
+     * @param gts traversal source of the graph
+     * @return graph statistics or the heuristic estimator
+     */
+    SelectivityEstimator get(GraphTraversalSource gts) {
+        Entry entry = entries.computeIfAbsent(gts.getGraph(), graph -> new Entry());
+        if (entry.isDue() && entry.refreshing.compareAndSet(false, true)) {
+            executor.execute(() -> refresh(gts, entry));
+        }
+        GraphStatistics statistics = entry.statistics;
+        return statistics != null ? statistics : SelectivityEstimator.HEURISTIC;
+    }
+
+    private void refresh(GraphTraversalSource gts, Entry entry) {
+        Graph graph = gts.getGraph();
+        long start = System.nanoTime();
+        try {
+            GraphStatistics statistics = GraphStatistics.collect(gts);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (statistics.equals(entry.statistics)) {
+                logger.debug("Cypher statistics unchanged, collected in {} ms", millis);
+            } else {
+                entry.statistics = statistics;
+                logger.info("Cypher statistics collected in {} ms: {}", millis, statistics);
+                listener.accept(statistics);
+            }
+        } catch (Exception e) {
+            logger.warn("Unable to collect Cypher statistics", e);
+        } finally {
+            if (graph.features().graph().supportsTransactions() && graph.tx().isOpen()) {
+                graph.tx().rollback();
+            }
+            entry.refreshAt = System.nanoTime() + refreshNanos;
+            entry.refreshing.set(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static final class Entry {
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile GraphStatistics statistics;
+        private volatile long refreshAt = System.nanoTime();
+
+        private boolean isDue() {
+            return System.nanoTime() - refreshAt >= 0;
+        }
+    }
+}
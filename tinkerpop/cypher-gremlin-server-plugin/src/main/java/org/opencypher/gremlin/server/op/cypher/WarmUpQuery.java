@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import static java.util.Collections.emptyMap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Representative Cypher query with sample parameters, used to warm up translation caches.
+ * <p>
+ * Warm-up files are YAML lists:
+ * <pre>
+ * - query: MATCH (p:person) WHERE p.name = $name RETURN p
+ *   parameters: {name: marko}
+ * - query: |
+ *     CREATE (p:person {name: $name, age: $age})
+ *   parameters: {name: vadas, age: 27}
+ * </pre>
+ * Queries that contain {@code ": "} have to be quoted or written as block scalars.
+ * Parameter values only need to have the same types as in real queries.
+ */
+final class WarmUpQuery {
+    private final String cypher;
+    private final Map<String, Object> parameters;
+
+    private WarmUpQuery(String cypher, Map<String, Object> parameters) {
+        this.cypher = cypher;
+        this.parameters = parameters;
+    }
+
+    String getCypher() {
+        return cypher;
+    }
+
+    Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<WarmUpQuery> load(String path) throws IOException {
+        Object document;
+        try (InputStream input = Files.newInputStream(Paths.get(path))) {
+            document = new Yaml().load(input);
+        }
+        if (document == null) {
+            return new ArrayList<>();
+        }
+        if (!(document instanceof List)) {
+            throw new IllegalArgumentException("Warm-up queries must be a list: " + path);
+        }
+
+        List<WarmUpQuery> queries = new ArrayList<>();
+        for (Object entry : (List<Object>) document) {
+            if (!(entry instanceof Map) || !(((Map<?, ?>) entry).get("query") instanceof String)) {
+                throw new IllegalArgumentException("Warm-up query must have a 'query' string: " + entry);
+            }
+            Map<String, Object> map = (Map<String, Object>) entry;
+            Object parameters = map.getOrDefault("parameters", emptyMap());
+            if (!(parameters instanceof Map)) {
+                throw new IllegalArgumentException("Warm-up query parameters must be a map: " + entry);
+            }
+            queries.add(new WarmUpQuery((String) map.get("query"), (Map<String, Object>) parameters));
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.inV;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.label;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outV;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+/**
+ * Cardinality statistics of a graph:
+ * vertex counts per label, edge counts per type,
+ * and edge counts per type and label of the out or in vertex, that give average degrees.
+ * <p>
+ * Statistics are an estimator for the translation of {@code MATCH} patterns,
+ * node patterns without property predicates are estimated by vertex counts.
+ * Property predicates are estimated with the same factors as {@link SelectivityEstimator#HEURISTIC}.
+ * <p>
+ * Instances are immutable. Statistics with counts of the same orders of magnitude are equal,
+ * so that plans cached per estimator survive refreshes after writes that do not change the shape of the graph.
+ *
+ * @see CypherAst#translate(org.opencypher.gremlin.translation.translator.TranslatorFlavor,
+ * org.opencypher.gremlin.traversal.ProcedureContext, SelectivityEstimator, TranslationListener)
+ */
+public final class GraphStatistics implements SelectivityEstimator {
+    private static final double EQUALITY_SELECTIVITY = 0.001;
+    private static final double RANGE_SELECTIVITY = 0.5;
+
+    private final long vertexCount;
+    private final long edgeCount;
+    private final Map<String, Long> labelCounts;
+    private final Map<String, Long> typeCounts;
+    private final Map<String, Map<String, Long>> outCounts;
+    private final Map<String, Map<String, Long>> inCounts;
+    private final List<Object> magnitudes;
+
+    private GraphStatistics(Builder builder) {
+        this.vertexCount = builder.vertexCount;
+        this.edgeCount = builder.edgeCount;
+        this.labelCounts = unmodifiableMap(new HashMap<>(builder.labelCounts));
+        this.typeCounts = unmodifiableMap(new HashMap<>(builder.typeCounts));
+        this.outCounts = copy(builder.outCounts);
+        this.inCounts = copy(builder.inCounts);
+        this.magnitudes = Arrays.asList(
+            magnitude(vertexCount),
+            magnitude(edgeCount),
+            magnitudes(labelCounts),
+            magnitudes(typeCounts),
+            nestedMagnitudes(outCounts),
+            nestedMagnitudes(inCounts)
+        );
+    }
+
+    /**
+     * Collects statistics with four full scans of the graph.
+     *
+     * @param g graph traversal source
+     * @return graph statistics
+     */
+    @SuppressWarnings("unchecked")
+    public static GraphStatistics collect(GraphTraversalSource g) {
+        Builder builder = builder();
+        g.V().groupCount().by(T.label).next()
+            .forEach((label, count) -> builder.vertices((String) label, count));
+        g.E().groupCount().by(T.label).next()
+            .forEach((type, count) -> builder.edges((String) type, count));
+        g.E().project("label", "type").by(outV().label()).by(label()).groupCount().next()
+            .forEach((key, count) -> {
+                Map<String, String> k = (Map<String, String>) key;
+                builder.outEdges(k.get("label"), k.get("type"), count);
+            });
+        g.E().project("label", "type").by(inV().label()).by(label()).groupCount().next()
+            .forEach((key, count) -> {
+                Map<String, String> k = (Map<String, String>) key;
+                builder.inEdges(k.get("label"), k.get("type"), count);
+            });
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long getVertexCount() {
+        return vertexCount;
+    }
+
+    public long getVertexCount(String label) {
+        return labelCounts.getOrDefault(label, 0L);
+    }
+
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+
+    public long getEdgeCount(String type) {
+        return typeCounts.getOrDefault(type, 0L);
+    }
+
+    /**
+     * Gets the average number of outgoing edges of a type for vertices with a label.
+     *
+     * @param label vertex label
+     * @param type  edge type
+     * @return average out degree, or 0 if there are no vertices with the label
+     */
+    public double getAverageOutDegree(String label, String type) {
+        return averageDegree(outCounts, label, type);
+    }
+
+    /**
+     * Gets the average number of incoming edges of a type for vertices with a label.
+     *
+     * @param label vertex label
+     * @param type  edge type
+     * @return average in degree, or 0 if there are no vertices with the label
+     */
+    public double getAverageInDegree(String label, String type) {
+        return averageDegree(inCounts, label, type);
+    }
+
+    @Override
+    public double estimate(Set<String> labels, Set<String> equalityKeys, Set<String> rangeKeys) {
+        double vertices = labels.stream()
+            .mapToDouble(this::getVertexCount)
+            .min()
+            .orElse(vertexCount);
+        return vertices *
+            Math.pow(EQUALITY_SELECTIVITY, equalityKeys.size()) *
+            Math.pow(RANGE_SELECTIVITY, rangeKeys.size());
+    }
+
+    @Override
+    public double degree(Set<String> labels, Collection<String> types, Direction direction) {
+        double out = direction == Direction.IN ? 0 : degree(outCounts, labels, types);
+        double in = direction == Direction.OUT ? 0 : degree(inCounts, labels, types);
+        return out + in;
+    }
+
+    private double degree(Map<String, Map<String, Long>> counts, Set<String> labels, Collection<String> types) {
+        if (labels.isEmpty()) {
+            long edges = types.isEmpty() ?
+                edgeCount :
+                types.stream().distinct().mapToLong(this::getEdgeCount).sum();
+            return vertexCount == 0 ? 0 : (double) edges / vertexCount;
+        }
+        return labels.stream()
+            .mapToDouble(label -> types.isEmpty() ?
+                averageDegree(counts, label, null) :
+                types.stream().distinct().mapToDouble(type -> averageDegree(counts, label, type)).sum())
+            .min()
+            .orElse(0);
+    }
+
+    private double averageDegree(Map<String, Map<String, Long>> counts, String label, String type) {
+        long vertices = getVertexCount(label);
+        if (vertices == 0) {
+            return 0;
+        }
+        Map<String, Long> byType = counts.getOrDefault(label, emptyMap());
+        long edges = type == null ?
+            byType.values().stream().mapToLong(Long::longValue).sum() :
+            byType.getOrDefault(type, 0L);
+        return (double) edges / vertices;
+    }
+
+    private static Map<String, Map<String, Long>> copy(Map<String, Map<String, Long>> counts) {
+        Map<String, Map<String, Long>> result = new HashMap<>();
+        counts.forEach((label, byType) -> result.put(label, unmodifiableMap(new HashMap<>(byType))));
+        return unmodifiableMap(result);
+    }
+
+    /**
+     * Gets the number of decimal digits of a count, 0 for no elements.
+     */
+    private static int magnitude(long count) {
+        int magnitude = 0;
+        for (long rest = count; rest > 0; rest /= 10) {
+            magnitude++;
+        }
+        return magnitude;
+    }
+
+    private static Map<String, Integer> magnitudes(Map<String, Long> counts) {
+        Map<String, Integer> result = new HashMap<>();
+        counts.forEach((key, count) -> result.put(key, magnitude(count)));
+        return result;
+    }
+
+    private static Map<String, Map<String, Integer>> nestedMagnitudes(Map<String, Map<String, Long>> counts) {
+        Map<String, Map<String, Integer>> result = new HashMap<>();
+        counts.forEach((label, byType) -> result.put(label, magnitudes(byType)));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GraphStatistics that = (GraphStatistics) o;
+        return magnitudes.equals(that.magnitudes);
+    }
+
+    @Override
+    public int hashCode() {
+        return magnitudes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "GraphStatistics{" +
+            "vertices=" + labelCounts +
+            ", edges=" + typeCounts +
+            '}';
+    }
+
+    /**
+     * Accumulates counts of a graph. Counts for the same key are added up.
+     */
+    public static final class Builder {
+        private long vertexCount;
+        private long edgeCount;
+        private final Map<String, Long> labelCounts = new HashMap<>();
+        private final Map<String, Long> typeCounts = new HashMap<>();
+        private final Map<String, Map<String, Long>> outCounts = new HashMap<>();
+        private final Map<String, Map<String, Long>> inCounts = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds vertices with a label.
+         *
+         * @param label vertex label
+         * @param count number of vertices
+         * @return builder
+         */
+        public Builder vertices(String label, long count) {
+            vertexCount += count;
+            labelCounts.merge(label, count, Long::sum);
+            return this;
+        }
+
+        /**
+         * Adds edges of a type.
+         *
+         * @param type  edge type
+         * @param count number of edges
+         * @return builder
+         */
+        public Builder edges(String type, long count) {
+            edgeCount += count;
+            typeCounts.merge(type, count, Long::sum);
+            return this;
+        }
+
+        /**
+         * Adds edges of a type that go out of vertices with a label.
+         *
+         * @param label label of the out vertex
+         * @param type  edge type
+         * @param count number of edges
+         * @return builder
+         */
+        public Builder outEdges(String label, String type, long count) {
+            outCounts.computeIfAbsent(label, k -> new HashMap<>()).merge(type, count, Long::sum);
+            return this;
+        }
+
+        /**
+         * Adds edges of a type that go into vertices with a label.
+         *
+         * @param label label of the in vertex
+         * @param type  edge type
+         * @param count number of edges
+         * @return builder
+         */
+        public Builder inEdges(String label, String type, long count) {
+            inCounts.computeIfAbsent(label, k -> new HashMap<>()).merge(type, count, Long::sum);
+            return this;
+        }
+
+        public GraphStatistics build() {
+            return new GraphStatistics(this);
+        }
+    }
+}
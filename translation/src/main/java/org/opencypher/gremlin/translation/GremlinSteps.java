@@ -53,8 +53,12 @@ public interface GremlinSteps<T, P> {
 
     GremlinSteps<T, P> V();
 
+    GremlinSteps<T, P> V(Object... vertexIds);
+
     GremlinSteps<T, P> E();
 
+    GremlinSteps<T, P> E(Object... edgeIds);
+
     GremlinSteps<T, P> addE(String edgeLabel);
 
     GremlinSteps<T, P> addV();
@@ -101,6 +105,8 @@ public interface GremlinSteps<T, P> {
 
     GremlinSteps<T, P> emit();
 
+    GremlinSteps<T, P> emit(GremlinSteps<T, P> emitTraversal);
+
     GremlinSteps<T, P> flatMap(GremlinSteps<T, P> traversal);
 
     GremlinSteps<T, P> fold();
@@ -137,6 +143,8 @@ public interface GremlinSteps<T, P> {
 
     GremlinSteps<T, P> limit(long limit);
 
+    GremlinSteps<T, P> limit(Object limit);
+
     GremlinSteps<T, P> limit(Scope scope, long limit);
 
     GremlinSteps<T, P> local(GremlinSteps<T, P> localTraversal);
@@ -198,6 +206,8 @@ public interface GremlinSteps<T, P> {
 
     GremlinSteps<T, P> skip(long skip);
 
+    GremlinSteps<T, P> skip(Object skip);
+
     GremlinSteps<T, P> sum();
 
     GremlinSteps<T, P> tail(Scope scope, long limit);
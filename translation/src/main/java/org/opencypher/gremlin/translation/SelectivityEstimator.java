@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import java.util.Collection;
+import java.util.Set;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+/**
+ * Estimates how many vertices match a node pattern.
+ * Relationship chains in {@code MATCH} are translated starting from the node with the lowest estimate,
+ * ties are resolved in favor of the node that is written first.
+ * Comma-separated pattern parts are ordered by the estimated number of rows they produce.
+ *
+ * @see CypherAst#translate(org.opencypher.gremlin.translation.translator.TranslatorFlavor,
+ * org.opencypher.gremlin.traversal.ProcedureContext, SelectivityEstimator, TranslationListener)
+ */
+@FunctionalInterface
+public interface SelectivityEstimator {
+    /**
+     * Estimator that only looks at the shape of a node pattern:
+     * every equality predicate is assumed to be more selective than any number of labels,
+     * and every label to be more selective than a range predicate.
+     */
+    SelectivityEstimator HEURISTIC = (labels, equalityKeys, rangeKeys) ->
+        Math.pow(0.1, labels.size()) *
+            Math.pow(0.001, equalityKeys.size()) *
+            Math.pow(0.5, rangeKeys.size());
+
+    /**
+     * Estimator that keeps relationship chains in the order they are written.
+     */
+    SelectivityEstimator NONE = (labels, equalityKeys, rangeKeys) -> 1.0;
+
+    /**
+     * Estimates the number of vertices that match a node pattern.
+     * Only relative values matter.
+     *
+     * @param labels       node labels
+     * @param equalityKeys keys of properties compared for equality with literals or parameters
+     * @param rangeKeys    keys of properties compared by range with literals or parameters
+     * @return estimated number of matching vertices
+     */
+    double estimate(Set<String> labels, Set<String> equalityKeys, Set<String> rangeKeys);
+
+    /**
+     * Estimates the average number of relationships of a vertex that match a relationship pattern.
+     * Only relative values matter.
+     *
+     * @param labels    labels of the vertex the relationships are expanded from
+     * @param types     relationship types, empty for any type
+     * @param direction direction of the relationships relative to the vertex
+     * @return estimated average degree
+     */
+    default double degree(Set<String> labels, Collection<String> types, Direction direction) {
+        return 1.0;
+    }
+}
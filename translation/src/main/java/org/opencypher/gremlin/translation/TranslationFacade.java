@@ -16,10 +16,17 @@
 package org.opencypher.gremlin.translation;
 
 import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorConfiguration;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 /**
  * Cypher to Gremlin translation facade.
@@ -30,8 +37,15 @@ import org.opencypher.gremlin.translation.translator.Translator;
  * TranslationFacade cfog = new TranslationFacade();
  * String gremlin = cfog.toGremlinGroovy(cypher);
  * }</pre>
+ * <p>
+ * Batches of queries can be translated in parallel:
+ * <pre>{@code
+ * List<TranslationResult<String>> results = cfog.toGremlinGroovy(queries, TranslatorFlavor.gremlinServer());
+ * }</pre>
  */
 public class TranslationFacade {
+    private static final TranslatorConfiguration<String, GroovyPredicate> GROOVY =
+        Translator.builder().gremlinGroovy().buildConfiguration();
 
     /**
      * Translates a Cypher query to Gremlin Groovy.
@@ -52,7 +66,65 @@ public class TranslationFacade {
      */
     public String toGremlinGroovy(String cypher, Map<String, Object> parameters) {
         CypherAst ast = CypherAst.parse(cypher, parameters);
-        Translator<String, GroovyPredicate> translator = Translator.builder().gremlinGroovy().build();
-        return ast.buildTranslation(translator);
+        return ast.buildTranslation(GROOVY.newTranslator());
+    }
+
+    /**
+     * Translates a batch of Cypher queries to Gremlin Groovy in parallel
+     * on the common fork-join pool.
+     *
+     * @param queries Cypher queries
+     * @param flavor  translator flavor
+     * @return translations or translation errors, in query order
+     */
+    public List<TranslationResult<String>> toGremlinGroovy(Collection<String> queries, TranslatorFlavor flavor) {
+        return toGremlinGroovy(queries.stream(), flavor);
+    }
+
+    /**
+     * Translates a stream of Cypher queries to Gremlin Groovy in parallel
+     * on the common fork-join pool.
+     *
+     * @param queries Cypher queries
+     * @param flavor  translator flavor
+     * @return translations or translation errors, in encounter order of the stream
+     */
+    public List<TranslationResult<String>> toGremlinGroovy(Stream<String> queries, TranslatorFlavor flavor) {
+        return translateAll(queries, flavor);
+    }
+
+    /**
+     * Translates a stream of Cypher queries to Gremlin Groovy in parallel
+     * on the provided fork-join pool.
+     *
+     * @param queries Cypher queries
+     * @param flavor  translator flavor
+     * @param pool    fork-join pool to run translations on
+     * @return translations or translation errors, in encounter order of the stream
+     */
+    public List<TranslationResult<String>> toGremlinGroovy(Stream<String> queries,
+                                                           TranslatorFlavor flavor,
+                                                           ForkJoinPool pool) {
+        return pool.submit(() -> translateAll(queries, flavor)).join();
+    }
+
+    private static List<TranslationResult<String>> translateAll(Stream<String> queries, TranslatorFlavor flavor) {
+        TranslatorConfiguration<String, GroovyPredicate> configuration = Translator.builder()
+            .gremlinGroovy()
+            .buildConfiguration(flavor);
+        return queries
+            .parallel()
+            .map(cypher -> translate(cypher, configuration))
+            .collect(toList());
+    }
+
+    private static TranslationResult<String> translate(String cypher,
+                                                       TranslatorConfiguration<String, GroovyPredicate> configuration) {
+        try {
+            CypherAst ast = CypherAst.parse(cypher);
+            return TranslationResult.success(cypher, ast.buildTranslation(configuration.newTranslator()));
+        } catch (RuntimeException e) {
+            return TranslationResult.failure(cypher, e);
+        }
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+/**
+ * Receives instrumentation events of a Cypher to Gremlin translation.
+ * All methods have empty default implementations.
+ *
+ * @see TranslationProfile
+ */
+public interface TranslationListener {
+    /**
+     * Listener that ignores all events.
+     */
+    TranslationListener NONE = new TranslationListener() {
+    };
+
+    /**
+     * Called when a translation phase is completed.
+     *
+     * @param phase translation phase
+     * @param nanos phase duration in nanoseconds
+     */
+    default void onPhase(TranslationPhase phase, long nanos) {
+    }
+
+    /**
+     * Called when a rewriter is applied to the intermediate representation.
+     * Rewriters skipped by the rewrite engine are not reported.
+     *
+     * @param rewriter rewriter name
+     * @param nanos    rewriter duration in nanoseconds
+     * @param changed  whether the rewriter changed the intermediate representation
+     */
+    default void onRewriter(String rewriter, long nanos, boolean changed) {
+    }
+
+    /**
+     * Called when rewriting is completed.
+     * Step counts include steps of nested traversals.
+     *
+     * @param stepsBefore number of steps before rewriting
+     * @param stepsAfter  number of steps after rewriting
+     */
+    default void onRewriting(int stepsBefore, int stepsAfter) {
+    }
+}
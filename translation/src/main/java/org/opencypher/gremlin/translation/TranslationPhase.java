@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+/**
+ * Phases of a Cypher to Gremlin translation, in order of execution.
+ *
+ * @see TranslationListener
+ */
+public enum TranslationPhase {
+    /**
+     * Cypher pre-parser that extracts statement options.
+     */
+    PRE_PARSE("preParse"),
+    /**
+     * Parsing, semantic analysis and normalization by the Cypher front end.
+     */
+    FRONT_END("frontEnd"),
+    /**
+     * Walking the AST into the intermediate representation.
+     */
+    WALK("walk"),
+    /**
+     * Rewriting the intermediate representation and checking post-conditions.
+     */
+    REWRITE("rewrite"),
+    /**
+     * Writing the intermediate representation with a translator.
+     */
+    WRITE("write");
+
+    private final String key;
+
+    TranslationPhase(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the phase name used in translation profiles.
+     *
+     * @return phase name
+     */
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translation listener that collects a breakdown of a single translation:
+ * per-phase timings, intermediate representation size before and after rewriting,
+ * and rewriters that changed the intermediate representation.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class TranslationProfile implements TranslationListener {
+    private final Map<TranslationPhase, Long> phases = new EnumMap<>(TranslationPhase.class);
+    private final List<String> rewriters = new ArrayList<>();
+    private int stepsBefore;
+    private int stepsAfter;
+
+    @Override
+    public void onPhase(TranslationPhase phase, long nanos) {
+        phases.merge(phase, nanos, Long::sum);
+    }
+
+    @Override
+    public void onRewriter(String rewriter, long nanos, boolean changed) {
+        if (changed) {
+            rewriters.add(rewriter);
+        }
+    }
+
+    @Override
+    public void onRewriting(int stepsBefore, int stepsAfter) {
+        this.stepsBefore = stepsBefore;
+        this.stepsAfter = stepsAfter;
+    }
+
+    /**
+     * Gets the duration of a translation phase.
+     *
+     * @param phase translation phase
+     * @return duration in nanoseconds, or 0 if the phase was not reported
+     */
+    public long getNanos(TranslationPhase phase) {
+        return phases.getOrDefault(phase, 0L);
+    }
+
+    /**
+     * Gets names of rewriters that changed the intermediate representation, in order of application.
+     *
+     * @return rewriter names
+     */
+    public List<String> getRewriters() {
+        return new ArrayList<>(rewriters);
+    }
+
+    public int getStepsBeforeRewriting() {
+        return stepsBefore;
+    }
+
+    public int getStepsAfterRewriting() {
+        return stepsAfter;
+    }
+
+    /**
+     * Represents this profile as a map suitable for query results.
+     *
+     * @return map of phase timings in nanoseconds, step counts and fired rewriters
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> phaseNanos = new LinkedHashMap<>();
+        phases.forEach((phase, nanos) -> phaseNanos.put(phase.getKey(), nanos));
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("phaseNanos", phaseNanos);
+        map.put("stepsBeforeRewriting", stepsBefore);
+        map.put("stepsAfterRewriting", stepsAfter);
+        map.put("rewriters", getRewriters());
+        return map;
+    }
+}
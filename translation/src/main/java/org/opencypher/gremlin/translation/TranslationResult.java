@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+/**
+ * Outcome of a single translation in a batch:
+ * either a translation or the error that prevented it.
+ *
+ * @param <T> translation type
+ * @see TranslationFacade#toGremlinGroovy(java.util.Collection, org.opencypher.gremlin.translation.translator.TranslatorFlavor)
+ */
+public final class TranslationResult<T> {
+    private final String cypher;
+    private final T translation;
+    private final RuntimeException error;
+
+    private TranslationResult(String cypher, T translation, RuntimeException error) {
+        this.cypher = cypher;
+        this.translation = translation;
+        this.error = error;
+    }
+
+    static <T> TranslationResult<T> success(String cypher, T translation) {
+        return new TranslationResult<>(cypher, translation, null);
+    }
+
+    static <T> TranslationResult<T> failure(String cypher, RuntimeException error) {
+        return new TranslationResult<>(cypher, null, error);
+    }
+
+    public String getCypher() {
+        return cypher;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gets the translation.
+     *
+     * @return translation
+     * @throws RuntimeException the translation error, if translation failed
+     */
+    public T getTranslation() {
+        if (error != null) {
+            throw error;
+        }
+        return translation;
+    }
+
+    /**
+     * Gets the translation error.
+     *
+     * @return translation error, or {@code null} if translation succeeded
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? String.valueOf(translation) : String.valueOf(error);
+    }
+}
@@ -34,14 +34,32 @@ import org.opencypher.gremlin.traversal.CustomFunction;
 public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
 
     private final Bytecode bytecode;
+    private final boolean shared;
 
     public BytecodeGremlinSteps() {
-        this.bytecode = new Bytecode();
+        this(new Bytecode(), false);
+    }
+
+    private BytecodeGremlinSteps(Bytecode bytecode, boolean shared) {
+        this.bytecode = bytecode;
+        this.shared = shared;
+    }
+
+    /**
+     * Wraps complete bytecode of a constant traversal, so that it can be used as
+     * a nested traversal of many translations without being copied.
+     * The wrapped bytecode must not be modified.
+     *
+     * @param bytecode complete traversal bytecode
+     * @return steps that share the provided bytecode
+     */
+    public static GremlinSteps<Bytecode, P> fragment(Bytecode bytecode) {
+        return new BytecodeGremlinSteps(bytecode, true);
     }
 
     @Override
     public Bytecode current() {
-        return bytecode.clone();
+        return shared ? bytecode : bytecode.clone();
     }
 
     @Override
@@ -55,12 +73,24 @@ public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<Bytecode, P> V(Object... vertexIds) {
+        bytecode.addStep(Symbols.V, vertexIds);
+        return this;
+    }
+
     @Override
     public GremlinSteps<Bytecode, P> E() {
         bytecode.addStep(Symbols.E);
         return this;
     }
 
+    @Override
+    public GremlinSteps<Bytecode, P> E(Object... edgeIds) {
+        bytecode.addStep(Symbols.E, edgeIds);
+        return this;
+    }
+
     @Override
     public GremlinSteps<Bytecode, P> addE(String edgeLabel) {
         bytecode.addStep(Symbols.addE, edgeLabel);
@@ -191,6 +221,12 @@ public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<Bytecode, P> emit(GremlinSteps<Bytecode, P> emitTraversal) {
+        bytecode.addStep(Symbols.emit, emitTraversal.current());
+        return this;
+    }
+
     @Override
     public GremlinSteps<Bytecode, P> flatMap(GremlinSteps<Bytecode, P> traversal) {
         bytecode.addStep(Symbols.flatMap, traversal.current());
@@ -299,6 +335,12 @@ public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<Bytecode, P> limit(Object limit) {
+        bytecode.addStep(Symbols.limit, limit);
+        return this;
+    }
+
     @Override
     public GremlinSteps<Bytecode, P> limit(Scope scope, long limit) {
         bytecode.addStep(Symbols.limit, scope, limit);
@@ -481,6 +523,12 @@ public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<Bytecode, P> skip(Object skip) {
+        bytecode.addStep(Symbols.skip, skip);
+        return this;
+    }
+
     @Override
     public GremlinSteps<Bytecode, P> sum() {
         bytecode.addStep(Symbols.sum);
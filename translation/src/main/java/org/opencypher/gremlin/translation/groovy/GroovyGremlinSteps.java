@@ -15,10 +15,9 @@
  */
 package org.opencypher.gremlin.translation.groovy;
 
+import static org.opencypher.gremlin.translation.groovy.StringTranslationUtils.appendChain;
 import static org.opencypher.gremlin.translation.groovy.StringTranslationUtils.apply;
-import static org.opencypher.gremlin.translation.groovy.StringTranslationUtils.chain;
 
-import java.util.stream.Stream;
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.structure.Column;
@@ -55,81 +54,93 @@ public class GroovyGremlinSteps implements GremlinSteps<String, GroovyPredicate>
 
     @Override
     public GremlinSteps<String, GroovyPredicate> V() {
-        g.append(chain("V"));
+        chain("V");
+        return this;
+    }
+
+    @Override
+    public GremlinSteps<String, GroovyPredicate> V(Object... vertexIds) {
+        chain("V", vertexIds);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> E() {
-        g.append(chain("E"));
+        chain("E");
+        return this;
+    }
+
+    @Override
+    public GremlinSteps<String, GroovyPredicate> E(Object... edgeIds) {
+        chain("E", edgeIds);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> addE(String edgeLabel) {
-        g.append(chain("addE", edgeLabel));
+        chain("addE", edgeLabel);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> addV() {
-        g.append(chain("addV"));
+        chain("addV");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> addV(String vertexLabel) {
-        g.append(chain("addV", vertexLabel));
+        chain("addV", vertexLabel);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> aggregate(String sideEffectKey) {
-        g.append(chain("aggregate", sideEffectKey));
+        chain("aggregate", sideEffectKey);
         return this;
     }
 
     @SafeVarargs
     @Override
     public final GremlinSteps<String, GroovyPredicate> and(GremlinSteps<String, GroovyPredicate>... andTraversals) {
-        g.append(chain("and", traversals(andTraversals)));
+        chain("and", traversals(andTraversals));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> as(String stepLabel) {
-        g.append(chain("as", stepLabel));
+        chain("as", stepLabel);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> barrier() {
-        g.append(chain("barrier"));
+        chain("barrier");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> bothE(String... edgeLabels) {
-        g.append(chain("bothE", (Object[]) edgeLabels));
+        chain("bothE", (Object[]) edgeLabels);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> by(GremlinSteps<String, GroovyPredicate> traversal) {
-        g.append(chain("by", traversal(traversal)));
+        chain("by", traversal(traversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> by(GremlinSteps<String, GroovyPredicate> traversal,
                                                     Order order) {
-        g.append(chain("by", traversal(traversal), order));
+        chain("by", traversal(traversal), order);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> cap(String sideEffectKey) {
-        g.append(chain("cap", sideEffectKey));
+        chain("cap", sideEffectKey);
         return this;
     }
 
@@ -137,7 +148,7 @@ public class GroovyGremlinSteps implements GremlinSteps<String, GroovyPredicate>
     public GremlinSteps<String, GroovyPredicate> choose(GremlinSteps<String, GroovyPredicate> predicate,
                                                         GremlinSteps<String, GroovyPredicate> trueChoice,
                                                         GremlinSteps<String, GroovyPredicate> falseChoice) {
-        g.append(chain("choose", traversal(predicate), traversal(trueChoice), traversal(falseChoice)));
+        chain("choose", traversal(predicate), traversal(trueChoice), traversal(falseChoice));
         return this;
     }
 
@@ -145,438 +156,465 @@ public class GroovyGremlinSteps implements GremlinSteps<String, GroovyPredicate>
     public GremlinSteps<String, GroovyPredicate> choose(GroovyPredicate predicate,
                                                         GremlinSteps<String, GroovyPredicate> trueChoice,
                                                         GremlinSteps<String, GroovyPredicate> falseChoice) {
-        g.append(chain("choose", predicate, traversal(trueChoice), traversal(falseChoice)));
+        chain("choose", predicate, traversal(trueChoice), traversal(falseChoice));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> choose(GroovyPredicate predicate,
                                                         GremlinSteps<String, GroovyPredicate> trueChoice) {
-        g.append(chain("choose", predicate, traversal(trueChoice)));
+        chain("choose", predicate, traversal(trueChoice));
         return this;
     }
 
     @SafeVarargs
     @Override
     public final GremlinSteps<String, GroovyPredicate> coalesce(GremlinSteps<String, GroovyPredicate>... coalesceTraversals) {
-        g.append(chain("coalesce", traversals(coalesceTraversals)));
+        chain("coalesce", traversals(coalesceTraversals));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> constant(Object e) {
-        g.append(chain("constant", e));
+        chain("constant", e);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> count() {
-        g.append(chain("count"));
+        chain("count");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> count(Scope scope) {
-        g.append(chain("count", scope));
+        chain("count", scope);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> dedup(String... dedupLabels) {
-        g.append(chain("dedup", (Object[]) dedupLabels));
+        chain("dedup", (Object[]) dedupLabels);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> drop() {
-        g.append(chain("drop"));
+        chain("drop");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> emit() {
-        g.append(chain("emit"));
+        chain("emit");
+        return this;
+    }
+
+    @Override
+    public GremlinSteps<String, GroovyPredicate> emit(GremlinSteps<String, GroovyPredicate> emitTraversal) {
+        chain("emit", traversal(emitTraversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> flatMap(GremlinSteps<String, GroovyPredicate> traversal) {
-        g.append(chain("flatMap", traversal(traversal)));
+        chain("flatMap", traversal(traversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> fold() {
-        g.append(chain("fold"));
+        chain("fold");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> from(String fromStepLabel) {
-        g.append(chain("from", fromStepLabel));
+        chain("from", fromStepLabel);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> group() {
-        g.append(chain("group"));
+        chain("group");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> has(String propertyKey) {
-        g.append(chain("has", propertyKey));
+        chain("has", propertyKey);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> has(String propertyKey, GroovyPredicate predicate) {
-        g.append(chain("has", propertyKey, predicate));
+        chain("has", propertyKey, predicate);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> hasKey(String... labels) {
-        g.append(chain("hasKey", (Object[]) labels));
+        chain("hasKey", (Object[]) labels);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> hasLabel(String... labels) {
-        g.append(chain("hasLabel", (Object[]) labels));
+        chain("hasLabel", (Object[]) labels);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> hasNot(String propertyKey) {
-        g.append(chain("hasNot", propertyKey));
+        chain("hasNot", propertyKey);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> id() {
-        g.append(chain("id"));
+        chain("id");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> identity() {
-        g.append(chain("identity"));
+        chain("identity");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> inE(String... edgeLabels) {
-        g.append(chain("inE", (Object[]) edgeLabels));
+        chain("inE", (Object[]) edgeLabels);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> inV() {
-        g.append(chain("inV"));
+        chain("inV");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> inject(Object... injections) {
-        g.append(chain("inject", injections));
+        chain("inject", injections);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> is(GroovyPredicate predicate) {
-        g.append(chain("is", predicate));
+        chain("is", predicate);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> key() {
-        g.append(chain("key"));
+        chain("key");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> label() {
-        g.append(chain("label"));
+        chain("label");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> limit(long limit) {
-        g.append(chain("limit", limit));
+        chain("limit", limit);
+        return this;
+    }
+
+    @Override
+    public GremlinSteps<String, GroovyPredicate> limit(Object limit) {
+        chain("limit", limit);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> limit(Scope scope, long limit) {
-        g.append(chain("limit", scope, limit));
+        chain("limit", scope, limit);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> local(GremlinSteps<String, GroovyPredicate> localTraversal) {
-        g.append(chain("local", traversal(localTraversal)));
+        chain("local", traversal(localTraversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> loops() {
-        g.append(chain("loops"));
+        chain("loops");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> map(CustomFunction function) {
-        g.append(chain(
+        chain(
             "map",
             Verbatim.of(apply(function.getName()))
-        ));
+        );
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> map(GremlinSteps<String, GroovyPredicate> traversal) {
-        g.append(chain("map", traversal(traversal)));
+        chain("map", traversal(traversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> math(String expression) {
-        g.append(chain("math", expression));
+        chain("math", expression);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> max() {
-        g.append(chain("max"));
+        chain("max");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> mean() {
-        g.append(chain("mean"));
+        chain("mean");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> min() {
-        g.append(chain("min"));
+        chain("min");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> not(GremlinSteps<String, GroovyPredicate> notTraversal) {
-        g.append(chain("not", traversal(notTraversal)));
+        chain("not", traversal(notTraversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> optional(GremlinSteps<String, GroovyPredicate> optionalTraversal) {
-        g.append(chain("optional", traversal(optionalTraversal)));
+        chain("optional", traversal(optionalTraversal));
         return this;
     }
 
     @SafeVarargs
     @Override
     public final GremlinSteps<String, GroovyPredicate> or(GremlinSteps<String, GroovyPredicate>... orTraversals) {
-        g.append(chain("or", traversals(orTraversals)));
+        chain("or", traversals(orTraversals));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> order() {
-        g.append(chain("order"));
+        chain("order");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> otherV() {
-        g.append(chain("otherV"));
+        chain("otherV");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> outE(String... edgeLabels) {
-        g.append(chain("outE", (Object[]) edgeLabels));
+        chain("outE", (Object[]) edgeLabels);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> outV() {
-        g.append(chain("outV"));
+        chain("outV");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> path() {
-        g.append(chain("path"));
+        chain("path");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> properties(String... propertyKeys) {
-        g.append(chain("properties", (Object[]) propertyKeys));
+        chain("properties", (Object[]) propertyKeys);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> property(String key, Object value) {
-        g.append(chain("property", key, value));
+        chain("property", key, value);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> property(Cardinality cardinality, String key, Object value) {
-        g.append(chain("property", cardinality, key, value));
+        chain("property", cardinality, key, value);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> property(String key, GremlinSteps<String, GroovyPredicate> traversal) {
-        g.append(chain("property", key, traversal(traversal)));
+        chain("property", key, traversal(traversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> property(Cardinality cardinality, String key, GremlinSteps<String, GroovyPredicate> traversal) {
-        g.append(chain("property", cardinality, key, traversal(traversal)));
+        chain("property", cardinality, key, traversal(traversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> project(String... keys) {
-        g.append(chain("project", (Object[]) keys));
+        chain("project", (Object[]) keys);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> range(Scope scope, long low, long high) {
-        g.append(chain("range", scope, low, high));
+        chain("range", scope, low, high);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> repeat(GremlinSteps<String, GroovyPredicate> repeatTraversal) {
-        g.append(chain("repeat", traversal(repeatTraversal)));
+        chain("repeat", traversal(repeatTraversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> select(String... selectKeys) {
-        g.append(chain("select", (Object[]) selectKeys));
+        chain("select", (Object[]) selectKeys);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> select(Column column) {
-        g.append(chain("select", column));
+        chain("select", column);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> sideEffect(GremlinSteps<String, GroovyPredicate> sideEffectTraversal) {
-        g.append(chain("sideEffect", traversal(sideEffectTraversal)));
+        chain("sideEffect", traversal(sideEffectTraversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> simplePath() {
-        g.append(chain("simplePath"));
+        chain("simplePath");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> skip(long skip) {
-        g.append(chain("skip", skip));
+        chain("skip", skip);
+        return this;
+    }
+
+    @Override
+    public GremlinSteps<String, GroovyPredicate> skip(Object skip) {
+        chain("skip", skip);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> sum() {
-        g.append(chain("sum"));
+        chain("sum");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> tail(Scope scope, long limit) {
-        g.append(chain("tail", scope, limit));
+        chain("tail", scope, limit);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> times(int maxLoops) {
-        g.append(chain("times", maxLoops));
+        chain("times", maxLoops);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> to(String toStepLabel) {
-        g.append(chain("to", toStepLabel));
+        chain("to", toStepLabel);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> unfold() {
-        g.append(chain("unfold"));
+        chain("unfold");
         return this;
     }
 
     @SafeVarargs
     @Override
     public final GremlinSteps<String, GroovyPredicate> union(GremlinSteps<String, GroovyPredicate>... unionTraversals) {
-        g.append(chain("union", traversals(unionTraversals)));
+        chain("union", traversals(unionTraversals));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> until(GremlinSteps<String, GroovyPredicate> untilTraversal) {
-        g.append(chain("until", traversal(untilTraversal)));
+        chain("until", traversal(untilTraversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> value() {
-        g.append(chain("value"));
+        chain("value");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> valueMap() {
-        g.append(chain("valueMap"));
+        chain("valueMap");
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> valueMap(boolean includeTokens) {
-        g.append(chain("valueMap", includeTokens));
+        chain("valueMap", includeTokens);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> values(String... propertyKeys) {
-        g.append(chain("values", (Object[]) propertyKeys));
+        chain("values", (Object[]) propertyKeys);
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> where(GremlinSteps<String, GroovyPredicate> whereTraversal) {
-        g.append(chain("where", traversal(whereTraversal)));
+        chain("where", traversal(whereTraversal));
         return this;
     }
 
     @Override
     public GremlinSteps<String, GroovyPredicate> where(GroovyPredicate predicate) {
-        g.append(chain("where", predicate));
+        chain("where", predicate);
         return this;
     }
 
+    private void chain(String name, Object... arguments) {
+        appendChain(g, name, arguments);
+    }
+
     private static Object traversal(GremlinSteps<String, GroovyPredicate> gremlinStep) {
+        if (gremlinStep instanceof GroovyGremlinSteps) {
+            return Verbatim.of(((GroovyGremlinSteps) gremlinStep).g);
+        }
         return Verbatim.of(gremlinStep.current());
     }
 
     private static Object[] traversals(GremlinSteps<String, GroovyPredicate>[] gremlinSteps) {
-        return Stream.of(gremlinSteps)
-            .map(GroovyGremlinSteps::traversal)
-            .toArray(Object[]::new);
+        Object[] traversals = new Object[gremlinSteps.length];
+        for (int i = 0; i < gremlinSteps.length; i++) {
+            traversals[i] = traversal(gremlinSteps[i]);
+        }
+        return traversals;
     }
 }
@@ -15,7 +15,7 @@
  */
 package org.opencypher.gremlin.translation.groovy;
 
-import static org.opencypher.gremlin.translation.groovy.StringTranslationUtils.apply;
+import static org.opencypher.gremlin.translation.groovy.StringTranslationUtils.appendApply;
 
 public class GroovyPredicate {
 
@@ -27,8 +27,14 @@ public class GroovyPredicate {
         this.arguments = arguments;
     }
 
+    void appendTo(StringBuilder sb) {
+        appendApply(sb, operator, arguments);
+    }
+
     @Override
     public String toString() {
-        return apply(operator, arguments);
+        StringBuilder sb = new StringBuilder();
+        appendTo(sb);
+        return sb.toString();
     }
 }
@@ -15,62 +15,106 @@
  */
 package org.opencypher.gremlin.translation.groovy;
 
-import static java.util.stream.Collectors.joining;
-
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * Gremlin-Groovy rendering helpers.
+ * <p>
+ * The {@code append*} methods write directly into a shared {@link StringBuilder},
+ * so that nested traversals and literals are rendered without intermediate strings.
+ */
 public final class StringTranslationUtils {
     private StringTranslationUtils() {
     }
 
     public static String apply(String name, Object... arguments) {
-        String joined = Stream.of(arguments)
-            .map(StringTranslationUtils::toLiteral)
-            .collect(joining(", "));
-        return name + "(" + joined + ")";
+        StringBuilder sb = new StringBuilder();
+        appendApply(sb, name, arguments);
+        return sb.toString();
     }
 
-    static String chain(String name, Object... arguments) {
-        return "." + apply(name, arguments);
+    public static String toLiteral(Object argument) {
+        StringBuilder sb = new StringBuilder();
+        appendLiteral(sb, argument);
+        return sb.toString();
     }
 
-    public static String toLiteral(Object argument) {
-        if (argument instanceof List) {
-            return ((List<?>) argument).stream()
-                .map(StringTranslationUtils::toLiteral)
-                .collect(Collectors.joining(", ", "[", "]"));
-        }
-        if (argument instanceof Map) {
-            Map<?, ?> map = (Map<?, ?>) argument;
-            if (map.isEmpty()) {
-                return "[:]";
+    static void appendChain(StringBuilder sb, String name, Object... arguments) {
+        sb.append('.');
+        appendApply(sb, name, arguments);
+    }
+
+    static void appendApply(StringBuilder sb, String name, Object... arguments) {
+        sb.append(name).append('(');
+        for (int i = 0; i < arguments.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
             }
-            return map.entrySet().stream()
-                .map(entry -> {
-                    Object key = entry.getKey();
-                    Object value = toLiteral(entry.getValue());
-                    return key + ": " + value;
-                })
-                .collect(Collectors.joining(", ", "[", "]"));
+            appendLiteral(sb, arguments[i]);
         }
+        sb.append(')');
+    }
+
+    static void appendLiteral(StringBuilder sb, Object argument) {
         if (argument instanceof String) {
-            return toStringLiteral((String) argument);
-        }
-        if (argument == null) {
-            return "null";
-        }
-        if (argument instanceof Verbatim) {
-            return ((Verbatim) argument).getValue();
+            appendStringLiteral(sb, (String) argument);
+        } else if (argument instanceof Verbatim) {
+            sb.append(((Verbatim) argument).getValue());
+        } else if (argument instanceof GroovyPredicate) {
+            ((GroovyPredicate) argument).appendTo(sb);
+        } else if (argument instanceof List) {
+            sb.append('[');
+            appendElements(sb, ((List<?>) argument).iterator());
+            sb.append(']');
+        } else if (argument instanceof Map) {
+            appendMapLiteral(sb, (Map<?, ?>) argument);
+        } else if (argument == null) {
+            sb.append("null");
+        } else {
+            sb.append(argument.toString());
         }
+    }
 
-        return argument.toString();
+    private static void appendElements(StringBuilder sb, Iterator<?> elements) {
+        boolean first = true;
+        while (elements.hasNext()) {
+            if (!first) {
+                sb.append(", ");
+            }
+            appendLiteral(sb, elements.next());
+            first = false;
+        }
     }
 
-    private static String toStringLiteral(String agrument) {
-        return "'" + agrument.replaceAll("(['\\\\])", "\\\\$1") + "'";
+    private static void appendMapLiteral(StringBuilder sb, Map<?, ?> map) {
+        if (map.isEmpty()) {
+            sb.append("[:]");
+            return;
+        }
+        sb.append('[');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append(": ");
+            appendLiteral(sb, entry.getValue());
+            first = false;
+        }
+        sb.append(']');
     }
 
+    private static void appendStringLiteral(StringBuilder sb, String argument) {
+        sb.append('\'');
+        for (int i = 0; i < argument.length(); i++) {
+            char c = argument.charAt(i);
+            if (c == '\'' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append('\'');
+    }
 }
@@ -15,18 +15,22 @@
  */
 package org.opencypher.gremlin.translation.groovy;
 
+/**
+ * Groovy source fragment that is rendered as is.
+ * Nested traversals are wrapped without copying their contents.
+ */
 final class Verbatim {
-    private final String value;
+    private final CharSequence value;
 
-    private Verbatim(String value) {
+    private Verbatim(CharSequence value) {
         this.value = value;
     }
 
-    static Verbatim of(String value) {
+    static Verbatim of(CharSequence value) {
         return new Verbatim(value);
     }
 
-    String getValue() {
+    CharSequence getValue() {
         return value;
     }
 }
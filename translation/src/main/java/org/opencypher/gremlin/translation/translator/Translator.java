@@ -18,6 +18,7 @@ package org.opencypher.gremlin.translation.translator;
 
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -40,6 +41,8 @@ import org.opencypher.gremlin.translation.traversal.TraversalGremlinSteps;
  * for different targets.
  * <p>
  * Translator instances are not reusable.
+ * Use a {@link TranslatorConfiguration} to create translators
+ * from a configuration that is shared between threads.
  */
 public final class Translator<T, P> {
     private final GremlinSteps<T, P> steps;
@@ -48,11 +51,11 @@ public final class Translator<T, P> {
     private final Set<TranslatorFeature> features;
     private final TranslatorFlavor flavor;
 
-    private Translator(GremlinSteps<T, P> steps,
-                       GremlinPredicates<P> predicates,
-                       GremlinBindings bindings,
-                       Set<TranslatorFeature> features,
-                       TranslatorFlavor flavor) {
+    Translator(GremlinSteps<T, P> steps,
+               GremlinPredicates<P> predicates,
+               GremlinBindings bindings,
+               Set<TranslatorFeature> features,
+               TranslatorFlavor flavor) {
         this.steps = steps;
         this.predicates = predicates;
         this.bindings = bindings;
@@ -141,7 +144,7 @@ public final class Translator<T, P> {
          */
         public ParametrizedFlavorBuilder<String, GroovyPredicate> gremlinGroovy() {
             return new ParametrizedFlavorBuilder<>(
-                new GroovyGremlinSteps(),
+                GroovyGremlinSteps::new,
                 new GroovyGremlinPredicates(),
                 new GroovyGremlinBindings()
             );
@@ -155,7 +158,7 @@ public final class Translator<T, P> {
          */
         public ParametrizedFlavorBuilder<Bytecode, org.apache.tinkerpop.gremlin.process.traversal.P> bytecode() {
             return new ParametrizedFlavorBuilder<>(
-                new BytecodeGremlinSteps(),
+                BytecodeGremlinSteps::new,
                 new BytecodeGremlinPredicates(),
                 new BytecodeGremlinBindings()
             );
@@ -170,7 +173,12 @@ public final class Translator<T, P> {
          * @return builder for translator to Gremlin traversal
          */
         public FlavorBuilder<GraphTraversal, org.apache.tinkerpop.gremlin.process.traversal.P> traversal() {
-            return traversal(new DefaultGraphTraversal());
+            return new FlavorBuilder<>(
+                () -> new TraversalGremlinSteps(new DefaultGraphTraversal()),
+                new TraversalGremlinPredicates(),
+                new TraversalGremlinBindings(),
+                true
+            );
         }
 
         /**
@@ -179,21 +187,29 @@ public final class Translator<T, P> {
          * for its source.
          * <p>
          * See: https://tinkerpop.apache.org/docs/current/reference/#traversal
+         * <p>
+         * Translators for a given traversal are not reusable,
+         * so this builder can not build a {@link TranslatorConfiguration}.
          *
          * @param g traversal to modify with translated steps
          * @return builder for translator to Gremlin traversal
          */
         public FlavorBuilder<GraphTraversal, org.apache.tinkerpop.gremlin.process.traversal.P> traversal(GraphTraversal g) {
+            TraversalGremlinSteps steps = new TraversalGremlinSteps(g);
             return new FlavorBuilder<>(
-                new TraversalGremlinSteps(g),
+                () -> steps,
                 new TraversalGremlinPredicates(),
-                new TraversalGremlinBindings()
+                new TraversalGremlinBindings(),
+                false
             );
         }
 
         /**
          * Builds a {@link Translator} that translates Cypher queries
          * to custom format via the provided steps and predicates implementation.
+         * <p>
+         * Translators with a given steps instance are not reusable,
+         * so this builder can not build a {@link TranslatorConfiguration}.
          *
          * @param steps      Gremlin steps implementation
          * @param predicates Gremlin predicates implementation
@@ -206,27 +222,57 @@ public final class Translator<T, P> {
             GremlinSteps<T, P> steps,
             GremlinPredicates<P> predicates,
             GremlinBindings parameters
+        ) {
+            return new FlavorBuilder<>(
+                () -> steps,
+                predicates,
+                parameters,
+                false
+            );
+        }
+
+        /**
+         * Builds a {@link Translator} that translates Cypher queries
+         * to custom format via the provided steps and predicates implementation.
+         * Every translator gets a new steps instance from the provided factory,
+         * while predicates and bindings implementations are shared.
+         *
+         * @param steps      Gremlin steps factory
+         * @param predicates Gremlin predicates implementation
+         * @param parameters Parameters strategy implementation
+         * @param <T>        translation target type
+         * @param <P>        predicate target type
+         * @return builder for translator to custom format
+         */
+        public <T, P> FlavorBuilder<T, P> custom(
+            Supplier<GremlinSteps<T, P>> steps,
+            GremlinPredicates<P> predicates,
+            GremlinBindings parameters
         ) {
             return new FlavorBuilder<>(
                 steps,
                 predicates,
-                parameters
+                parameters,
+                true
             );
         }
     }
 
     public static class FlavorBuilder<T, P> {
-        private final GremlinSteps<T, P> steps;
+        private final Supplier<GremlinSteps<T, P>> steps;
         private final GremlinPredicates<P> predicates;
         protected GremlinBindings bindings;
         private final Set<TranslatorFeature> features = EnumSet.noneOf(TranslatorFeature.class);
+        private final boolean reusable;
 
-        private FlavorBuilder(GremlinSteps<T, P> steps,
+        private FlavorBuilder(Supplier<GremlinSteps<T, P>> steps,
                               GremlinPredicates<P> predicates,
-                              GremlinBindings bindings) {
+                              GremlinBindings bindings,
+                              boolean reusable) {
             this.steps = steps;
             this.predicates = predicates;
             this.bindings = bindings;
+            this.reusable = reusable;
         }
 
         /**
@@ -261,6 +307,18 @@ public final class Translator<T, P> {
             return this;
         }
 
+        /**
+         * Enables sharing of constant nested traversals between translations
+         * in the {@link Translator} that's being built.
+         *
+         * @return builder for translator
+         * @see TranslatorFeature#SHARED_FRAGMENTS
+         */
+        public FlavorBuilder<T, P> enableSharedFragments() {
+            features.add(TranslatorFeature.SHARED_FRAGMENTS);
+            return this;
+        }
+
         /**
          * Builds a {@link Translator}.
          *
@@ -278,6 +336,36 @@ public final class Translator<T, P> {
          */
         public Translator<T, P> build(TranslatorFlavor flavor) {
             return new Translator<>(
+                steps.get(),
+                predicates,
+                bindings,
+                features,
+                flavor != null ? flavor : TranslatorFlavor.gremlinServer()
+            );
+        }
+
+        /**
+         * Builds a {@link TranslatorConfiguration}.
+         *
+         * @return translator configuration
+         * @throws IllegalStateException if translators of this builder are not reusable
+         */
+        public TranslatorConfiguration<T, P> buildConfiguration() {
+            return buildConfiguration(null);
+        }
+
+        /**
+         * Builds a {@link TranslatorConfiguration} with the given translator flavor.
+         *
+         * @param flavor translation flavor
+         * @return translator configuration
+         * @throws IllegalStateException if translators of this builder are not reusable
+         */
+        public TranslatorConfiguration<T, P> buildConfiguration(TranslatorFlavor flavor) {
+            if (!reusable) {
+                throw new IllegalStateException("Translators with a given steps instance are not reusable");
+            }
+            return new TranslatorConfiguration<>(
                 steps,
                 predicates,
                 bindings,
@@ -288,10 +376,10 @@ public final class Translator<T, P> {
     }
 
     public static final class ParametrizedFlavorBuilder<T, P> extends FlavorBuilder<T, P> {
-        private ParametrizedFlavorBuilder(GremlinSteps<T, P> steps,
+        private ParametrizedFlavorBuilder(Supplier<GremlinSteps<T, P>> steps,
                                           GremlinPredicates<P> predicates,
                                           GremlinBindings bindings) {
-            super(steps, predicates, bindings);
+            super(steps, predicates, bindings, true);
         }
 
         /**
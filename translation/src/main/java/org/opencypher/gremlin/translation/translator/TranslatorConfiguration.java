@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.translator;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.opencypher.gremlin.translation.GremlinBindings;
+import org.opencypher.gremlin.translation.GremlinPredicates;
+import org.opencypher.gremlin.translation.GremlinSteps;
+
+/**
+ * Immutable {@link Translator} configuration that can be built once
+ * and shared between threads.
+ * <p>
+ * Every {@link Translator} created by a configuration has its own steps builder.
+ * Predicates and bindings are stateless and shared between translators.
+ *
+ * @see Translator.FlavorBuilder#buildConfiguration()
+ */
+public final class TranslatorConfiguration<T, P> {
+    private final Supplier<GremlinSteps<T, P>> steps;
+    private final GremlinPredicates<P> predicates;
+    private final GremlinBindings bindings;
+    private final Set<TranslatorFeature> features;
+    private final TranslatorFlavor flavor;
+
+    TranslatorConfiguration(Supplier<GremlinSteps<T, P>> steps,
+                            GremlinPredicates<P> predicates,
+                            GremlinBindings bindings,
+                            Set<TranslatorFeature> features,
+                            TranslatorFlavor flavor) {
+        this.steps = steps;
+        this.predicates = predicates;
+        this.bindings = bindings;
+        this.features = Collections.unmodifiableSet(EnumSet.copyOf(features));
+        this.flavor = flavor;
+    }
+
+    /**
+     * Creates a single-use {@link Translator} with this configuration.
+     *
+     * @return translator
+     */
+    public Translator<T, P> newTranslator() {
+        return new Translator<>(steps.get(), predicates, bindings, features, flavor);
+    }
+
+    /**
+     * Returns true if a given feature is enabled in this configuration.
+     *
+     * @return true, if the feature is enabled, false otherwise
+     */
+    public boolean isEnabled(TranslatorFeature feature) {
+        return features.contains(feature);
+    }
+
+    /**
+     * Returns the flavor of translators with this configuration.
+     *
+     * @return translation flavor
+     */
+    public TranslatorFlavor flavor() {
+        return flavor;
+    }
+}
@@ -30,5 +30,13 @@ public enum TranslatorFeature {
      * Support for specifying multiple labels for a vertex
      * and matching by multiple labels.
      */
-    MULTIPLE_LABELS
+    MULTIPLE_LABELS,
+
+    /**
+     * Reuse of the bytecode of small constant nested traversals between translations,
+     * like the element projections written for every returned node or relationship.
+     * Shared bytecode is cached in a bounded cache and must not be modified.
+     * Only applies to translators built with {@link Translator.Builder#bytecode()}.
+     */
+    SHARED_FRAGMENTS
 }
@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.opencypher.gremlin.translation.GremlinSteps;
+import org.opencypher.gremlin.translation.Tokens;
 import org.opencypher.gremlin.traversal.CustomFunction;
 
 @SuppressWarnings("unchecked")
@@ -72,6 +73,18 @@ public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<GraphTraversal, P> V(Object... vertexIds) {
+        if (isStartedOrSubTraversal()) {
+            g.V(vertexIds);
+        } else {
+            // Workaround for constructing `GraphStep` with `isStart == true`
+            g.asAdmin().getBytecode().addStep(Symbols.V, vertexIds);
+            g.asAdmin().addStep(new GraphStep<>(g.asAdmin(), Vertex.class, true, vertexIds));
+        }
+        return this;
+    }
+
     @Override
     public GremlinSteps<GraphTraversal, P> E() {
         if (isStartedOrSubTraversal()) {
@@ -84,6 +97,18 @@ public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<GraphTraversal, P> E(Object... edgeIds) {
+        if (isStartedOrSubTraversal()) {
+            throw new IllegalStateException("Edge graph step can only be at the start of traversal");
+        } else {
+            // Workaround for constructing `EdgeStep` with `isStart == true`
+            g.asAdmin().getBytecode().addStep(Symbols.E, edgeIds);
+            g.asAdmin().addStep(new GraphStep<>(g.asAdmin(), Edge.class, true, edgeIds));
+        }
+        return this;
+    }
+
     @Override
     public GremlinSteps<GraphTraversal, P> addE(String edgeLabel) {
         g.addE(edgeLabel);
@@ -226,6 +251,12 @@ public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<GraphTraversal, P> emit(GremlinSteps<GraphTraversal, P> emitTraversal) {
+        g.emit(emitTraversal.current());
+        return this;
+    }
+
     @Override
     public GremlinSteps<GraphTraversal, P> flatMap(GremlinSteps<GraphTraversal, P> traversal) {
         g.flatMap(traversal.current());
@@ -338,6 +369,12 @@ public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<GraphTraversal, P> limit(Object limit) {
+        g.limit(count("limit", limit));
+        return this;
+    }
+
     @Override
     public GremlinSteps<GraphTraversal, P> limit(Scope scope, long limit) {
         g.limit(scope, limit);
@@ -527,6 +564,12 @@ public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<GraphTraversal, P> skip(Object skip) {
+        g.skip(count("skip", skip));
+        return this;
+    }
+
     @Override
     public GremlinSteps<GraphTraversal, P> sum() {
         g.sum();
@@ -621,4 +664,15 @@ public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
     public String toString() {
         return g.asAdmin().getBytecode().toString();
     }
+
+    private static long count(String step, Object value) {
+        if (!(value instanceof Number) ||
+            ((Number) value).longValue() < 0 ||
+            ((Number) value).doubleValue() != ((Number) value).longValue()) {
+            Object argument = Tokens.NULL.equals(value) ? null : value;
+            throw new IllegalArgumentException(
+                "`" + step + "()` step requires a non-negative integer, got: " + argument);
+        }
+        return ((Number) value).longValue();
+    }
 }
@@ -119,6 +119,13 @@ public class CustomFunction {
         );
     }
 
+    public static CustomFunction cypherShortestPath() {
+        return new CustomFunction(
+            "cypherShortestPath",
+            CustomFunctions.cypherShortestPath()
+        );
+    }
+
     public static CustomFunction cypherException() {
         return new CustomFunction(
             "cypherException",
@@ -17,6 +17,7 @@ package org.opencypher.gremlin.translation
 
 import java.util
 import java.util.Collections
+import java.util.function.Supplier
 
 import org.opencypher.gremlin.extension.CypherBindingType._
 import org.opencypher.gremlin.extension.CypherProcedures.procedureName
@@ -24,10 +25,11 @@ import org.opencypher.gremlin.extension._
 import org.opencypher.gremlin.translation.context.WalkerContext
 import org.opencypher.gremlin.translation.exception.SyntaxException
 import org.opencypher.gremlin.translation.ir.TranslationWriter
+import org.opencypher.gremlin.translation.ir.TraversalHelper.foldTraversals
 import org.opencypher.gremlin.translation.ir.builder.{IRGremlinBindings, IRGremlinPredicates, IRGremlinSteps}
-import org.opencypher.gremlin.translation.ir.model.GremlinStep
+import org.opencypher.gremlin.translation.ir.model.{GremlinPredicate, GremlinStep}
 import org.opencypher.gremlin.translation.preparser._
-import org.opencypher.gremlin.translation.translator.{Translator, TranslatorFlavor}
+import org.opencypher.gremlin.translation.translator.{Translator, TranslatorConfiguration, TranslatorFlavor}
 import org.opencypher.gremlin.translation.walker.StatementWalker
 import org.opencypher.gremlin.traversal.ProcedureContext
 import org.opencypher.v9_0.ast._
@@ -47,7 +49,8 @@ import scala.collection.mutable
   * for executing a Gremlin traversal.
   *
   * @param statement       AST root node
-  * @param parameters      Cypher query parameters
+  * @param parameters      Cypher query parameters, including extracted literals
+  * @param extracted       parameters extracted from literals
   * @param expressionTypes expression Cypher types
   * @param returnTypes     return types by alias
   * @param options         pre-parser options provided by Cypher parser
@@ -55,6 +58,7 @@ import scala.collection.mutable
 class CypherAst private (
     val statement: Statement,
     parameters: Map[String, Any],
+    extracted: Map[String, Any],
     expressionTypes: Map[Expression, CypherType],
     returnTypes: Map[String, CypherType],
     options: Seq[PreParserOption]) {
@@ -67,30 +71,69 @@ class CypherAst private (
     * @return to-Gremlin translation
     */
   def translate(flavor: TranslatorFlavor, procedures: ProcedureContext = ProcedureContext.empty()): Seq[GremlinStep] = {
-    val dsl = Translator
-      .builder()
-      .custom(
-        new IRGremlinSteps,
-        new IRGremlinPredicates,
-        new IRGremlinBindings
-      )
-      .enableCypherExtensions()
-      .enableMultipleLabels()
-      .build()
-
-    val context = WalkerContext(dsl, expressionTypes, returnTypes, procedures, parameters)
+    translate(flavor, procedures, TranslationListener.NONE)
+  }
+
+  /**
+    * Creates an intermediate representation of the translation
+    * and reports walking and rewriting to the listener.
+    *
+    * @param flavor     translation flavor
+    * @param procedures registered procedure context
+    * @param listener   translation listener
+    * @return to-Gremlin translation
+    */
+  def translate(
+      flavor: TranslatorFlavor,
+      procedures: ProcedureContext,
+      listener: TranslationListener): Seq[GremlinStep] = {
+    translate(flavor, procedures, SelectivityEstimator.HEURISTIC, listener)
+  }
+
+  /**
+    * Creates an intermediate representation of the translation
+    * with pattern start points chosen by the provided estimator,
+    * and reports walking and rewriting to the listener.
+    *
+    * @param flavor      translation flavor
+    * @param procedures  registered procedure context
+    * @param selectivity estimator for choosing pattern start points
+    * @param listener    translation listener
+    * @return to-Gremlin translation
+    */
+  def translate(
+      flavor: TranslatorFlavor,
+      procedures: ProcedureContext,
+      selectivity: SelectivityEstimator,
+      listener: TranslationListener): Seq[GremlinStep] = {
+    val walkStart = System.nanoTime()
+    val dsl = CypherAst.irTranslator.newTranslator()
+
+    val context =
+      WalkerContext(dsl, expressionTypes, returnTypes, procedures, parameters.keySet, selectivity, flavor.hopLimit)
     StatementWalker.walk(context, statement)
     val ir = dsl.translate()
+    val rewriteStart = System.nanoTime()
+    listener.onPhase(TranslationPhase.WALK, rewriteStart - walkStart)
 
-    val rewritten = flavor.rewriters.foldLeft(ir)((ir, rewriter) => rewriter(ir))
+    val rewritten = flavor.rewriteEngine(ir, listener)
 
     flavor.postConditions
       .flatMap(postCondition => postCondition(rewritten))
       .foreach(msg => throw new SyntaxException(msg))
 
+    listener.onPhase(TranslationPhase.REWRITE, System.nanoTime() - rewriteStart)
+    if (listener ne TranslationListener.NONE) {
+      listener.onRewriting(countSteps(ir), countSteps(rewritten))
+    }
+
     rewritten
   }
 
+  private def countSteps(ir: Seq[GremlinStep]): Int = {
+    foldTraversals(0)((count, steps) => count + steps.size)(ir)
+  }
+
   /**
     * Creates a translation to Gremlin.
     *
@@ -100,8 +143,32 @@ class CypherAst private (
     * @return to-Gremlin translation
     */
   def buildTranslation[T, P](dsl: Translator[T, P]): T = {
-    val ir = translate(dsl.flavor(), ProcedureContext.empty())
-    TranslationWriter.write(ir, dsl, parameters)
+    buildTranslation(dsl, TranslationListener.NONE)
+  }
+
+  /**
+    * Creates a translation to Gremlin and reports translation phases to the listener.
+    *
+    * @param dsl      instance of [[Translator]]
+    * @param listener translation listener
+    * @tparam T translation target type
+    * @tparam P predicate target type
+    * @return to-Gremlin translation
+    */
+  def buildTranslation[T, P](dsl: Translator[T, P], listener: TranslationListener): T = {
+    val ir = translate(dsl.flavor(), ProcedureContext.empty(), listener)
+    TranslationWriter.write(ir, dsl, parameters, listener)
+  }
+
+  /**
+    * Gets parameters generated by literal extraction.
+    * These need to be provided along with query parameters
+    * when executing a translation.
+    *
+    * @return map of generated parameter names to literal values
+    */
+  def getExtractedParameters: util.Map[String, Object] = {
+    new util.LinkedHashMap[String, Object](extracted.mapValues(_.asInstanceOf[Object]).asJava)
   }
 
   private val javaOptions: util.Set[StatementOption] = options.flatMap {
@@ -168,6 +235,19 @@ class CypherAst private (
   */
 object CypherAst {
 
+  private val irTranslator: TranslatorConfiguration[Seq[GremlinStep], GremlinPredicate] = Translator
+    .builder()
+    .custom(
+      new Supplier[GremlinSteps[Seq[GremlinStep], GremlinPredicate]] {
+        override def get(): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = new IRGremlinSteps
+      },
+      new IRGremlinPredicates,
+      new IRGremlinBindings
+    )
+    .enableCypherExtensions()
+    .enableMultipleLabels()
+    .buildConfiguration()
+
   /**
     * Constructs a new Cypher AST from the provided query.
     *
@@ -206,28 +286,79 @@ object CypherAst {
       procedures: util.Map[String, CypherProcedureSignature]): CypherAst = {
     val scalaParameters = parameters.asScala.toMap
     val scalaProcedures = procedures.asScala.toMap
-    parse(queryText, scalaParameters, scalaProcedures)
+    parse(queryText, scalaParameters, scalaProcedures, false, TranslationListener.NONE)
+  }
+
+  /**
+    * Constructs a new Cypher AST from the provided query.
+    * Optionally, replaces literals with generated parameters,
+    * so that queries that only differ in literal values have the same translation.
+    *
+    * @param queryText       Cypher query
+    * @param parameters      Cypher query parameters
+    * @param procedures      registered procedure context
+    * @param extractLiterals whether to replace literals with parameters
+    * @return Cypher AST wrapper
+    * @see [[getExtractedParameters]]
+    */
+  @throws[CypherException]
+  def parse(
+      queryText: String,
+      parameters: util.Map[String, _],
+      procedures: util.Map[String, CypherProcedureSignature],
+      extractLiterals: Boolean): CypherAst = {
+    parse(queryText, parameters, procedures, extractLiterals, TranslationListener.NONE)
+  }
+
+  /**
+    * Constructs a new Cypher AST from the provided query
+    * and reports parsing phases to the listener.
+    *
+    * @param queryText       Cypher query
+    * @param parameters      Cypher query parameters
+    * @param procedures      registered procedure context
+    * @param extractLiterals whether to replace literals with parameters
+    * @param listener        translation listener
+    * @return Cypher AST wrapper
+    */
+  @throws[CypherException]
+  def parse(
+      queryText: String,
+      parameters: util.Map[String, _],
+      procedures: util.Map[String, CypherProcedureSignature],
+      extractLiterals: Boolean,
+      listener: TranslationListener): CypherAst = {
+    val scalaParameters = parameters.asScala.toMap
+    val scalaProcedures = procedures.asScala.toMap
+    parse(queryText, scalaParameters, scalaProcedures, extractLiterals, listener)
   }
 
   @throws[CypherException]
   private def parse(
       queryText: String,
       parameters: Map[String, Any],
-      procedures: Map[String, CypherProcedureSignature]): CypherAst = {
+      procedures: Map[String, CypherProcedureSignature],
+      extractLiterals: Boolean,
+      listener: TranslationListener): CypherAst = {
+    val preParseStart = System.nanoTime()
     val PreParsedStatement(preParsedQueryText, options, offset) = CypherPreParser(queryText)
+    val frontEndStart = System.nanoTime()
+    listener.onPhase(TranslationPhase.PRE_PARSE, frontEndStart - preParseStart)
     val startState = InitialState(preParsedQueryText, Some(offset), EmptyPlannerName)
-    val state = CompilationPhases
-      .parsing(RewriterStepSequencer.newPlain, literalExtraction = Never)
+    val parsing = CompilationPhases.parsing(RewriterStepSequencer.newPlain, literalExtraction = Never)
+    val state = (if (extractLiterals) parsing.andThen(ExtractLiterals) else parsing)
       .andThen(isolateAggregation)
       .andThen(SemanticAnalysis(warn = false))
       .andThen(Normalization)
       .transform(startState, EmptyParserContext(preParsedQueryText, Some(offset)))
 
     val statement = state.statement()
+    val extracted = state.extractedParams()
     val expressionTypes = getExpressionTypes(state)
     val returnTypes = getReturnTypes(expressionTypes, statement, procedures)
+    listener.onPhase(TranslationPhase.FRONT_END, System.nanoTime() - frontEndStart)
 
-    new CypherAst(statement, parameters, expressionTypes, returnTypes, options)
+    new CypherAst(statement, parameters ++ extracted, extracted, expressionTypes, returnTypes, options)
   }
 
   private def getExpressionTypes(state: BaseState): Map[Expression, CypherType] = {
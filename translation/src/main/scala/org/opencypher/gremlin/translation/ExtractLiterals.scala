@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation
+
+import java.util
+
+import org.opencypher.v9_0.ast._
+import org.opencypher.v9_0.expressions._
+import org.opencypher.v9_0.frontend.phases.CompilationPhaseTracer.CompilationPhase
+import org.opencypher.v9_0.frontend.phases.CompilationPhaseTracer.CompilationPhase.AST_REWRITE
+import org.opencypher.v9_0.frontend.phases.{BaseContext, BaseState, Condition, Phase}
+import org.opencypher.v9_0.util.symbols._
+import org.opencypher.v9_0.util.{Rewriter, topDown}
+
+import scala.collection.JavaConverters._
+import scala.collection.mutable
+
+/**
+  * Replaces literals with generated parameters,
+  * so that queries that only differ in literal values have the same statement.
+  * Generated parameters are named `_auto0`, `_auto1`, etc., skipping names already used in the query.
+  * Extracted values are added to the state parameters.
+  *
+  * Literals that are inlined in translation (`SKIP`, `LIMIT`, `range`, list indices and slices,
+  * variable-length relationship bounds) are kept as is.
+  */
+object ExtractLiterals extends Phase[BaseContext, BaseState, BaseState] {
+  override def phase: CompilationPhase = AST_REWRITE
+
+  override def description: String = "replace literals with generated parameters"
+
+  override def postConditions: Set[Condition] = Set.empty
+
+  override def process(from: BaseState, context: BaseContext): BaseState = {
+    val statement = from.statement()
+    val declared = statement.treeFold(Set.empty[String]) {
+      case Parameter(name, _) => acc => (acc + name, None)
+    }
+    val names = Iterator.from(0).map(i => s"_auto$i").filterNot(declared.contains)
+    val extracted = mutable.LinkedHashMap.empty[String, Any]
+
+    def parameter(literal: Expression, value: Any, typ: CypherType): Parameter = {
+      val name = names.next()
+      extracted.put(name, value)
+      Parameter(name, typ)(literal.position)
+    }
+
+    val rewriter = Rewriter.lift {
+      case l: StringLiteral  => parameter(l, l.value, CTString)
+      case l: IntegerLiteral => parameter(l, l.value, CTInteger)
+      case l: DoubleLiteral  => parameter(l, l.value, CTFloat)
+      case l: BooleanLiteral => parameter(l, l.value, CTBoolean)
+      case l @ ListLiteral(expressions) if expressions.nonEmpty && expressions.forall(isExtractable) =>
+        val values = expressions.map { case e: Literal => e.value }
+        parameter(l, new util.ArrayList[Any](values.asJava), CTList(CTAny))
+    }
+
+    val rewritten = statement.endoRewrite(topDown(rewriter, stopper = isInlined))
+    from.withStatement(rewritten).withParams(from.extractedParams() ++ extracted)
+  }
+
+  private def isExtractable(expression: Expression): Boolean = expression match {
+    case _: StringLiteral | _: IntegerLiteral | _: DoubleLiteral | _: BooleanLiteral => true
+    case _                                                                           => false
+  }
+
+  private def isInlined(node: AnyRef): Boolean = node match {
+    case _: Skip | _: Limit | _: ContainerIndex | _: ListSlice | _: Range => true
+    case f: FunctionInvocation                                            => f.name.equalsIgnoreCase("range")
+    case _                                                                => false
+  }
+}
@@ -15,7 +15,8 @@
  */
 package org.opencypher.gremlin.translation.context
 
-import org.opencypher.gremlin.translation.translator.Translator
+import org.opencypher.gremlin.translation.SelectivityEstimator
+import org.opencypher.gremlin.translation.translator.{Translator, TranslatorFlavor}
 import org.opencypher.gremlin.traversal.ProcedureContext
 import org.opencypher.v9_0.expressions.Expression
 import org.opencypher.v9_0.util.symbols.CypherType
@@ -28,44 +29,42 @@ object WalkerContext {
       expressionTypes: Map[Expression, CypherType],
       returnTypes: Map[String, CypherType],
       procedures: ProcedureContext,
-      parameters: Map[String, Any]): WalkerContext[T, P] = {
-    new WalkerContext(dsl, expressionTypes, returnTypes, procedures, parameters)
+      parameterNames: Set[String],
+      selectivity: SelectivityEstimator = SelectivityEstimator.HEURISTIC,
+      hopLimit: Int = TranslatorFlavor.DefaultHopLimit): WalkerContext[T, P] = {
+    new WalkerContext(dsl, expressionTypes, returnTypes, procedures, parameterNames, selectivity, hopLimit)
   }
 }
 
 /**
   * Context used by AST walkers to share global translation state.
+  * Parameter values are not available during translation,
+  * parameters are referred to with bindings that are resolved when the translation is written.
   *
   * @param dsl             reference to [[Translator]] implementation in use
   * @param expressionTypes expression Cypher types
   * @param returnTypes     return types by alias
   * @param procedures      registered procedure context
-  * @param parameters      Cypher query parameters
+  * @param parameterNames  Cypher query parameter names
+  * @param selectivity     estimator for choosing pattern start points
+  * @param hopLimit        maximum length of variable length patterns without an upper bound
   */
 sealed class WalkerContext[T, P](
     val dsl: Translator[T, P],
     val expressionTypes: Map[Expression, CypherType],
     val returnTypes: Map[String, CypherType],
     val procedures: ProcedureContext,
-    private val parameters: Map[String, Any]) {
+    private val parameterNames: Set[String],
+    val selectivity: SelectivityEstimator,
+    val hopLimit: Int) {
 
   def parameter(name: String): Object = {
-    val value = parameters.get(name).orNull
-    val parameter = dsl.bindings().bind(name, value)
+    val parameter = dsl.bindings().bind(name, null)
     parameter.asInstanceOf[Object]
   }
 
-  def inlineParameter[R](name: String, klass: Class[R]): R = {
-    val value = parameters.get(name).orNull
-    if (klass.isInstance(value)) {
-      value.asInstanceOf[R]
-    } else {
-      unsupported("inlined parameter", value)
-    }
-  }
-
   def parameterDefined(name: String): Boolean = {
-    parameters.contains(name)
+    parameterNames.contains(name)
   }
 
   def unsupported(description: String, node: Any): Nothing = {
@@ -107,6 +106,16 @@ sealed class WalkerContext[T, P](
     }
   }
 
+  /**
+    * Checks whether an alias has already been used earlier in the translation.
+    *
+    * @param name alias
+    * @return true if the alias is in use
+    */
+  def isReferenced(name: String): Boolean = {
+    referencedAliases.contains(name)
+  }
+
   private var nameGenerator = new NameGenerator()
 
   def generateName(): String = {
@@ -114,7 +123,8 @@ sealed class WalkerContext[T, P](
   }
 
   def copy(): WalkerContext[T, P] = {
-    val result = WalkerContext(dsl, expressionTypes, returnTypes, procedures, parameters)
+    val result =
+      WalkerContext(dsl, expressionTypes, returnTypes, procedures, parameterNames, selectivity, hopLimit)
     result.firstStatement = firstStatement
     result.referencedAliases ++= referencedAliases
     result.nameGenerator = nameGenerator
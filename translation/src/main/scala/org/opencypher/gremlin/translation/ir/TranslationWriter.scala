@@ -16,9 +16,12 @@
 package org.opencypher.gremlin.translation.ir
 
 import java.util
+import java.util.function.Function
 
-import org.apache.tinkerpop.gremlin.process.traversal.Scope
-import org.opencypher.gremlin.translation.GremlinSteps
+import org.apache.tinkerpop.gremlin.process.traversal.{Bytecode, Scope}
+import org.opencypher.gremlin.translation.bytecode.BytecodeGremlinSteps
+import org.opencypher.gremlin.translation.cache.LruCache
+import org.opencypher.gremlin.translation.{GremlinSteps, Tokens, TranslationListener, TranslationPhase}
 import org.opencypher.gremlin.translation.exception.SyntaxException
 import org.opencypher.gremlin.translation.ir.model._
 import org.opencypher.gremlin.translation.ir.verify._
@@ -47,18 +50,79 @@ object TranslationWriter {
     write(ir, translator, parameters.asScala.toMap)
   }
 
+  /**
+    * Produces query translation and reports writing time to the listener.
+    *
+    * @param ir         intermediate representation of the translation
+    * @param translator instance of [[Translator]]
+    * @param parameters Cypher query parameters
+    * @param listener   translation listener
+    * @tparam T translation target type
+    * @tparam P predicate target type
+    * @return to-Gremlin translation
+    */
+  def write[T, P](
+      ir: Seq[GremlinStep],
+      translator: Translator[T, P],
+      parameters: util.Map[String, Any],
+      listener: TranslationListener): T = {
+    write(ir, translator, parameters.asScala.toMap, listener)
+  }
+
   private val postConditions: Map[TranslatorFeature, GremlinPostCondition] = Map(
     CYPHER_EXTENSIONS -> NoCustomFunctions,
     MULTIPLE_LABELS -> NoMultipleLabels
   )
 
   def write[T, P](ir: Seq[GremlinStep], translator: Translator[T, P], parameters: Map[String, Any]): T = {
+    write(ir, translator, parameters, TranslationListener.NONE)
+  }
+
+  def write[T, P](
+      ir: Seq[GremlinStep],
+      translator: Translator[T, P],
+      parameters: Map[String, Any],
+      listener: TranslationListener): T = {
+    val start = System.nanoTime()
     for ((feature, postCondition) <- postConditions if !translator.isEnabled(feature);
          msg <- postCondition(ir)) throw new SyntaxException(msg)
 
     val generator = new TranslationWriter(translator, parameters)
     generator.writeSteps(ir, translator.steps())
-    translator.translate()
+    val translation = translator.translate()
+    listener.onPhase(TranslationPhase.WRITE, System.nanoTime() - start)
+    translation
+  }
+
+  private val MaxFragmentSteps = 64
+
+  /**
+    * Bytecode of constant nested traversals, shared between translations with the `SHARED_FRAGMENTS` feature.
+    * Walkers produce the same small sub-traversals for every query, e.g. element projections.
+    * Fragments are keyed by the steps and predicates classes of the translator as well,
+    * so that custom translators extending the bytecode ones do not share fragments with them.
+    */
+  private val bytecodeFragments = new LruCache[(Class[_], Class[_], Seq[GremlinStep]), Bytecode](1024)
+
+  /**
+    * Checks if a nested traversal is small and does not refer to parameters,
+    * so that its translation does not depend on the query.
+    */
+  private def isConstantFragment(ir: Seq[GremlinStep]): Boolean = {
+    fragmentBudget(ir, MaxFragmentSteps) >= 0
+  }
+
+  private def fragmentBudget(value: Any, budget: Int): Int = {
+    value match {
+      case _ if budget < 0                          => budget
+      case _: GremlinBinding                        => -1
+      case step: GremlinStep with Product           => fragmentBudget(step.productIterator, budget - 1)
+      case predicate: GremlinPredicate with Product => fragmentBudget(predicate.productIterator, budget)
+      case values: TraversableOnce[_] =>
+        values.foldLeft(budget)((remaining, value) => fragmentBudget(value, remaining))
+      case Some(v) => fragmentBudget(v, budget)
+      case _       => budget
+    }
   }
 }
 
@@ -67,13 +131,20 @@ sealed class TranslationWriter[T, P] private (translator: Translator[T, P], para
   private val p = translator.predicates()
   private val b = translator.bindings()
 
+  private val shareFragments =
+    translator.isEnabled(SHARED_FRAGMENTS) && g.isInstanceOf[BytecodeGremlinSteps]
+
   private def writeSteps(ir: Seq[GremlinStep], g: GremlinSteps[T, P]): GremlinSteps[T, P] = {
     for (step <- ir) {
       step match {
         case Vertex =>
           g.V()
+        case VertexIds(vertexIds @ _*) =>
+          g.V(vertexIds.map(writeValue): _*)
         case Edge =>
           g.E()
+        case EdgeIds(edgeIds @ _*) =>
+          g.E(edgeIds.map(writeValue): _*)
         case AddE(edgeLabel) =>
           g.addE(edgeLabel)
         case AddV =>
@@ -120,6 +191,8 @@ sealed class TranslationWriter[T, P] private (translator: Translator[T, P], para
           g.drop()
         case Emit =>
           g.emit()
+        case EmitT(emitTraversal) =>
+          g.emit(writeLocalSteps(emitTraversal))
         case FlatMapT(traversal) =>
           g.flatMap(writeLocalSteps(traversal))
         case Fold =>
@@ -156,6 +229,8 @@ sealed class TranslationWriter[T, P] private (translator: Translator[T, P], para
           g.label()
         case Limit(limit) =>
           g.limit(limit)
+        case LimitB(limit) =>
+          g.limit(writeCount("limit", limit))
         case LimitS(scope, limit) =>
           g.limit(scope, limit)
         case Local(traversal) =>
@@ -216,6 +291,8 @@ sealed class TranslationWriter[T, P] private (translator: Translator[T, P], para
           g.simplePath()
         case Skip(skip) =>
           g.skip(skip)
+        case SkipB(skip) =>
+          g.skip(writeCount("skip", skip))
         case Sum =>
           g.sum()
         case Tail(scope, limit) =>
@@ -248,7 +325,18 @@ sealed class TranslationWriter[T, P] private (translator: Translator[T, P], para
   }
 
   private def writeLocalSteps(ir: Seq[GremlinStep]): GremlinSteps[T, P] = {
-    writeSteps(ir, g.start())
+    if (shareFragments && TranslationWriter.isConstantFragment(ir)) {
+      val bytecode = TranslationWriter.bytecodeFragments.computeIfAbsent(
+        (g.getClass, p.getClass, ir),
+        new Function[(Class[_], Class[_], Seq[GremlinStep]), Bytecode] {
+          override def apply(key: (Class[_], Class[_], Seq[GremlinStep])): Bytecode =
+            writeSteps(key._3, g.start()).current().asInstanceOf[Bytecode]
+        }
+      )
+      BytecodeGremlinSteps.fragment(bytecode).asInstanceOf[GremlinSteps[T, P]]
+    } else {
+      writeSteps(ir, g.start())
+    }
   }
 
   def writePredicate(predicate: GremlinPredicate): P = {
@@ -269,6 +357,21 @@ sealed class TranslationWriter[T, P] private (translator: Translator[T, P], para
     }
   }
 
+  /**
+    * Writes a bound `SKIP` or `LIMIT` value, that is checked here for every target.
+    * Values of parameters that are not given are only known to the target.
+    */
+  private def writeCount(step: String, binding: GremlinBinding): Object = {
+    parameters.get(binding.name) match {
+      case Some(n: Number) if n.longValue() >= 0 && n.doubleValue() == n.longValue().toDouble =>
+      case Some(value) =>
+        val argument = if (Tokens.NULL == value) null else value
+        throw new IllegalArgumentException(s"`$step()` step requires a non-negative integer, got: $argument")
+      case None =>
+    }
+    writeValue(binding)
+  }
+
   def writeValue(value: Any): Object = {
     value match {
       case GremlinBinding(name) => b.bind(name, parameters.get(name).orNull)
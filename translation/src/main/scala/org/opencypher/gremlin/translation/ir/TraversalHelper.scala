@@ -18,24 +18,37 @@ package org.opencypher.gremlin.translation.ir
 import org.opencypher.gremlin.translation.ir.model.GremlinStep
 
 import scala.annotation.tailrec
+import scala.collection.mutable.ListBuffer
 import scala.language.implicitConversions
 
 /**
-  * Gremlin IR manipulation utilities
+  * Gremlin IR manipulation utilities.
+  * Sequence helpers run in linear time, so that large translations can be rewritten efficiently.
   */
 object TraversalHelper {
 
   /**
     * Maps top-level and all nested traversals starting from the bottom and going up.
+    * Steps with nested traversals that are not changed by the mapping are kept as is.
     *
     * @param f     mapping function
     * @param steps top-level traversal
     * @return mapping result
     */
   def mapTraversals(f: Seq[GremlinStep] => Seq[GremlinStep])(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
-    f(steps.map({ step =>
-      step.mapTraversals(steps => mapTraversals(f)(steps))
-    }))
+    val mapped = steps.map(mapNestedTraversals(f))
+    val unchanged = mapped.corresponds(steps)(_ eq _)
+    f(if (unchanged) steps else mapped)
+  }
+
+  private def mapNestedTraversals(f: Seq[GremlinStep] => Seq[GremlinStep])(step: GremlinStep): GremlinStep = {
+    var changed = false
+    val mapped = step.mapTraversals { traversal =>
+      val result = mapTraversals(f)(traversal)
+      changed = changed || !(result eq traversal)
+      result
+    }
+    if (changed) mapped else step
   }
 
   /**
@@ -62,19 +75,21 @@ object TraversalHelper {
     * @return list of extracted values
     */
   def extract[R](extractor: PartialFunction[Seq[GremlinStep], R])(steps: Seq[GremlinStep]): Seq[R] = {
-    @tailrec def findAcc(acc: Seq[R], steps: Seq[GremlinStep]): Seq[R] = {
+    val acc = new ListBuffer[R]
+
+    @tailrec def findAcc(steps: Seq[GremlinStep]): Seq[R] = {
       steps match {
         case _ :: tail if extractor.isDefinedAt(steps) =>
-          val found = extractor(steps)
-          findAcc(acc :+ found, tail)
+          acc += extractor(steps)
+          findAcc(tail)
         case _ :: tail =>
-          findAcc(acc, tail)
+          findAcc(tail)
         case Nil =>
-          acc
+          acc.toList
       }
     }
 
-    findAcc(Nil, steps)
+    findAcc(steps)
   }
 
   /**
@@ -95,6 +110,7 @@ object TraversalHelper {
 
   /**
     * Finds matching parts of an IR sequence and replaces them.
+    * If nothing matches, the original sequence is returned.
     *
     * @param steps    IR sequence
     * @param replacer matching and replacing function
@@ -102,22 +118,28 @@ object TraversalHelper {
     */
   def replace(replacer: PartialFunction[Seq[GremlinStep], Seq[GremlinStep]])(
       steps: Seq[GremlinStep]): Seq[GremlinStep] = {
-    @tailrec def replaceAcc(acc: Seq[GremlinStep], steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    val acc = new ListBuffer[GremlinStep]
+
+    @tailrec def replaceAcc(steps: Seq[GremlinStep], replaced: Boolean): Boolean = {
       steps match {
         case _ :: _ if replacer.isDefinedAt(steps) =>
-          val replaced = replacer(steps)
-          replaced.headOption match {
-            case Some(head) => replaceAcc(acc :+ head, replaced.tail)
-            case _          => acc
+          val replacement = replacer(steps)
+          replacement.headOption match {
+            case Some(head) =>
+              acc += head
+              replaceAcc(replacement.tail, replaced = true)
+            case _ =>
+              true
           }
         case head :: tail =>
-          replaceAcc(acc :+ head, tail)
+          acc += head
+          replaceAcc(tail, replaced)
         case Nil =>
-          acc
+          replaced
       }
     }
 
-    replaceAcc(Nil, steps)
+    if (replaceAcc(steps, replaced = false)) acc.toList else steps
   }
 
   /**
@@ -129,35 +151,39 @@ object TraversalHelper {
     * @return IR sequence segments
     */
   def split(splitMode: SplitMode, splitter: GremlinStep => Boolean)(steps: Seq[GremlinStep]): Seq[Seq[GremlinStep]] = {
-    @tailrec def splitAcc(
-        acc: Seq[Seq[GremlinStep]],
-        current: Seq[GremlinStep],
-        rest: Seq[GremlinStep]): Seq[Seq[GremlinStep]] = {
+    val acc = new ListBuffer[Seq[GremlinStep]]
+    val current = new ListBuffer[GremlinStep]
+
+    def flush(): Unit = {
+      if (current.nonEmpty) {
+        acc += current.toList
+        current.clear()
+      }
+    }
+
+    @tailrec def splitAcc(rest: Seq[GremlinStep]): Seq[Seq[GremlinStep]] = {
       rest match {
-        case step :: _ =>
+        case step :: tail =>
           if (splitter(step)) {
-            val segment = splitMode match {
-              case BeforeStep => current
-              case AfterStep  => current :+ step
-            }
-            val nextAcc = segment match {
-              case Nil => acc
-              case _   => acc :+ segment
-            }
-            val next = splitMode match {
-              case BeforeStep => step :: Nil
-              case AfterStep  => Nil
+            splitMode match {
+              case BeforeStep =>
+                flush()
+                current += step
+              case AfterStep =>
+                current += step
+                flush()
             }
-            splitAcc(nextAcc, next, rest.tail)
           } else {
-            splitAcc(acc, current :+ step, rest.tail)
+            current += step
           }
+          splitAcc(tail)
         case Nil =>
-          if (current.nonEmpty) acc :+ current else acc
+          flush()
+          acc.toList
       }
     }
 
-    splitAcc(Nil, Nil, steps)
+    splitAcc(steps)
   }
 
   sealed trait SplitMode
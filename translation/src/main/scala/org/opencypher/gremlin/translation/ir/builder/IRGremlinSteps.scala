@@ -37,11 +37,21 @@ class IRGremlinSteps extends GremlinSteps[Seq[GremlinStep], GremlinPredicate] {
     this
   }
 
+  override def V(vertexIds: AnyRef*): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
+    buf += VertexIds(vertexIds: _*)
+    this
+  }
+
   override def E(): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
     buf += Edge
     this
   }
 
+  override def E(edgeIds: AnyRef*): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
+    buf += EdgeIds(edgeIds: _*)
+    this
+  }
+
   override def addE(edgeLabel: String): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
     buf += AddE(edgeLabel)
     this
@@ -161,6 +171,12 @@ class IRGremlinSteps extends GremlinSteps[Seq[GremlinStep], GremlinPredicate] {
     this
   }
 
+  override def emit(
+      emitTraversal: GremlinSteps[Seq[GremlinStep], GremlinPredicate]): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
+    buf += EmitT(emitTraversal.current())
+    this
+  }
+
   override def flatMap(
       traversal: GremlinSteps[Seq[GremlinStep], GremlinPredicate]): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
     buf += FlatMapT(traversal.current())
@@ -254,6 +270,14 @@ class IRGremlinSteps extends GremlinSteps[Seq[GremlinStep], GremlinPredicate] {
     this
   }
 
+  override def limit(limit: scala.Any): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
+    limit match {
+      case binding: GremlinBinding => buf += LimitB(binding)
+      case number: Number          => buf += Limit(number.longValue())
+    }
+    this
+  }
+
   override def limit(scope: Scope, limit: Long): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
     buf += LimitS(scope, limit)
     this
@@ -419,6 +443,14 @@ class IRGremlinSteps extends GremlinSteps[Seq[GremlinStep], GremlinPredicate] {
     this
   }
 
+  override def skip(skip: scala.Any): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
+    skip match {
+      case binding: GremlinBinding => buf += SkipB(binding)
+      case number: Number          => buf += Skip(number.longValue())
+    }
+    this
+  }
+
   override def sum(): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
     buf += Sum
     this
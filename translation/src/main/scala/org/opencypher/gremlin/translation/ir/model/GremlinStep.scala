@@ -43,8 +43,12 @@ sealed trait GremlinStep {
 
 case object Vertex extends GremlinStep
 
+case class VertexIds(vertexIds: Any*) extends GremlinStep
+
 case object Edge extends GremlinStep
 
+case class EdgeIds(edgeIds: Any*) extends GremlinStep
+
 case class AddE(edgeLabel: String) extends GremlinStep
 
 case object AddV extends GremlinStep
@@ -128,6 +132,16 @@ case object Drop extends GremlinStep
 
 case object Emit extends GremlinStep
 
+case class EmitT(emitTraversal: Seq[GremlinStep]) extends GremlinStep {
+  override def mapTraversals(f: Seq[GremlinStep] => Seq[GremlinStep]): GremlinStep = {
+    EmitT(f(emitTraversal))
+  }
+
+  override def foldTraversals[R](z: R)(op: (R, Seq[GremlinStep]) => R): R = {
+    op(z, emitTraversal)
+  }
+}
+
 case class FlatMapT(traversal: Seq[GremlinStep]) extends GremlinStep {
   override def mapTraversals(f: Seq[GremlinStep] => Seq[GremlinStep]): GremlinStep = {
     FlatMapT(f(traversal))
@@ -172,6 +186,8 @@ case object Label extends GremlinStep
 
 case class Limit(limit: Long) extends GremlinStep
 
+case class LimitB(limit: GremlinBinding) extends GremlinStep
+
 case class LimitS(scope: Scope, limit: Long) extends GremlinStep
 
 case class Local(traversal: Seq[GremlinStep]) extends GremlinStep {
@@ -304,6 +320,8 @@ case object SimplePath extends GremlinStep
 
 case class Skip(skip: Long) extends GremlinStep
 
+case class SkipB(skip: GremlinBinding) extends GremlinStep
+
 case object Sum extends GremlinStep
 
 case class Times(maxLoops: Int) extends GremlinStep
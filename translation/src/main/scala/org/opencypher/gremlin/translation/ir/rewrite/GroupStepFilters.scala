@@ -23,6 +23,7 @@ import scala.collection.mutable
 /**
   * This rewriter relocates label and property predicates from normalized `WHERE` expressions
   * to the related `as` step as `has` steps.
+  * Property comparisons with labeled values are relocated as `where` steps on the element itself.
   * This should allow Gremlin provider optimization strategies
   * to fold generated `has` steps into the adjacent vertex step.
   */
@@ -37,44 +38,52 @@ object GroupStepFilters extends GremlinRewriter {
   }
 
   private def rewriteSegment(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
-    val rewrittenStepLabels = extract({
+    val stepLabels = extract({
       case As(stepLabel) :: _                   => stepLabel
       case Repeat(_ :: As(stepLabel) :: _) :: _ => stepLabel
-    })(steps).toSet
+    })(steps)
+    val rewrittenStepLabels = stepLabels.toSet
+
+    // Labels bound before this segment or before the step label can be compared at that step
+    val nestedLabels = foldTraversals(Set.empty[String])({ (acc, sub) =>
+      acc ++ extract({ case As(stepLabel) :: _ => stepLabel })(sub)
+    })(steps)
+    val boundBefore: (String, String) => Boolean = { (label, stepLabel) =>
+      val index = stepLabels.indexOf(label)
+      if (index >= 0) index < stepLabels.indexOf(stepLabel) else !nestedLabels.contains(label)
+    }
 
     if (rewrittenStepLabels.isEmpty) {
       // No applicable step labels found
       return steps
     }
 
-    // Group "has" steps by related step label
-    val hasSteps = new mutable.HashMap[String, mutable.Set[GremlinStep]] with mutable.MultiMap[String, GremlinStep]
+    // Group "has" steps by related step label, in order of appearance
+    val hasSteps = new mutable.LinkedHashMap[String, mutable.Set[GremlinStep]]
+    with mutable.MultiMap[String, GremlinStep] {
+      override protected def makeSet: mutable.Set[GremlinStep] = new mutable.LinkedHashSet[GremlinStep]
+    }
     val sortedHasSteps: String => List[GremlinStep] = { stepLabel =>
-      hasSteps(stepLabel).toList.sortBy { // Reorder "has" steps by priority
-        case _: HasLabel => 0
-        case _           => 1
-      }
+      hasSteps(stepLabel).toList.sortBy(priority)
     }
 
     extract({
       case WhereT(And(andTraversals @ _*) :: Nil) :: _ =>
-        whereExtractor(andTraversals)
+        whereExtractor(boundBefore)(andTraversals)
       case WhereT(whereTraversal) :: _ =>
-        whereExtractor(whereTraversal :: Nil)
+        whereExtractor(boundBefore)(whereTraversal :: Nil)
     })(steps).flatten.filter {
       case (stepLabel, _) => rewrittenStepLabels.contains(stepLabel)
     }.foreach {
       case (stepLabel, step) => hasSteps.addBinding(stepLabel, step)
     }
 
-    val aliasesWhereFilter = whereFilter(rewrittenStepLabels) _
+    val aliasesWhereFilter = whereFilter(rewrittenStepLabels, boundBefore) _
     val firstPass = replace({
       case As(stepLabel) :: rest if hasSteps.contains(stepLabel) =>
-        val steps = sortedHasSteps(stepLabel)
-        As(stepLabel) +: (steps ++ rest)
+        As(stepLabel) +: insertFilters(sortedHasSteps(stepLabel), rest)
       case Repeat(head :: As(stepLabel) :: repeatRest) :: rest if hasSteps.contains(stepLabel) =>
-        val steps = sortedHasSteps(stepLabel)
-        Repeat(head :: As(stepLabel) +: (steps ++ repeatRest)) :: rest
+        Repeat(head :: As(stepLabel) +: insertFilters(sortedHasSteps(stepLabel), repeatRest)) :: rest
       case WhereT(And(andTraversals @ _*) :: Nil) :: rest =>
         aliasesWhereFilter(andTraversals)
           .map(_ :: rest)
@@ -88,11 +97,33 @@ object GroupStepFilters extends GremlinRewriter {
     firstPass
   }
 
+  // Labels and equality lookups go first, so that they can be answered by vertex indexes
+  private def priority(step: GremlinStep): Int = step match {
+    case _: HasLabel        => 0
+    case HasP(_, _: Eq)     => 1
+    case HasP(_, _: Within) => 2
+    case _                  => 3
+  }
+
+  // Comparisons with labeled values go after the lookups that already follow the step
+  private def insertFilters(filters: List[GremlinStep], rest: Seq[GremlinStep]): List[GremlinStep] = {
+    val (whereSteps, hasSteps) = filters.partition(_.isInstanceOf[WhereT])
+    val (lookups, others) = rest.toList.span {
+      case _: HasLabel | _: HasP => true
+      case _                     => false
+    }
+    hasSteps ++ lookups ++ whereSteps ++ others
+  }
+
   // Extracts "has" steps from a list of WHERE expressions
-  private def whereExtractor(traversals: Seq[Seq[GremlinStep]]): Seq[(String, GremlinStep)] = {
+  private def whereExtractor(boundBefore: (String, String) => Boolean)(
+      traversals: Seq[Seq[GremlinStep]]): Seq[(String, GremlinStep)] = {
     traversals.flatMap {
       case SelectK(stepLabel) :: Values(propertyKey) :: Is(predicate) :: Nil =>
         (stepLabel, HasP(propertyKey, predicate)) :: Nil
+      case SelectK(stepLabel) :: Values(propertyKey) :: WhereP(Eq(label: String)) :: Nil
+          if boundBefore(label, stepLabel) =>
+        (stepLabel, WhereT(Values(propertyKey) :: WhereP(Eq(label)) :: Nil)) :: Nil
       case SelectK(stepLabel) :: rest if rest.forall(_.isInstanceOf[HasLabel]) =>
         rest.map((stepLabel, _))
       case _ =>
@@ -101,10 +132,14 @@ object GroupStepFilters extends GremlinRewriter {
   }
 
   // Filters out relocated expressions from WHERE
-  private def whereFilter(aliases: Set[String])(traversals: Seq[Seq[GremlinStep]]): Option[GremlinStep] = {
+  private def whereFilter(aliases: Set[String], boundBefore: (String, String) => Boolean)(
+      traversals: Seq[Seq[GremlinStep]]): Option[GremlinStep] = {
     val newTraversals = traversals.flatMap {
       case SelectK(alias) :: Values(_) :: Is(_) :: Nil if aliases.contains(alias) =>
         None
+      case SelectK(alias) :: Values(_) :: WhereP(Eq(label: String)) :: Nil
+          if aliases.contains(alias) && boundBefore(label, alias) =>
+        None
       case SelectK(alias) :: rest if aliases.contains(alias) && rest.forall(_.isInstanceOf[HasLabel]) =>
         None
       case other =>
@@ -24,10 +24,15 @@ import org.opencypher.gremlin.translation.ir.model._
   */
 object InlineFlatMapTraversal extends GremlinRewriter {
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
-    mapTraversals(traversal =>
-      traversal.flatMap {
-        case FlatMapT(t) => t
-        case s           => Seq(s)
+    mapTraversals({ traversal =>
+      if (traversal.exists(_.isInstanceOf[FlatMapT])) {
+        traversal.flatMap {
+          case FlatMapT(t) => t
+          case s           => Seq(s)
+        }
+      } else {
+        traversal
+      }
     })(steps)
   }
 }
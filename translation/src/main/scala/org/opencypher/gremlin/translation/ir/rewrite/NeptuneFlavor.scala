@@ -27,7 +27,6 @@ object NeptuneFlavor extends GremlinRewriter {
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     Seq(
       injectWorkaround(_),
-      limit0Workaround(_),
       multipleLabelsWorkaround(_),
       aggregateWithSameNameWorkaround(_),
       traversalRewriters(_)
@@ -90,13 +89,6 @@ object NeptuneFlavor extends GremlinRewriter {
     }
   }
 
-  private def limit0Workaround(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
-    replace({
-      case Barrier :: Limit(0) :: rest =>
-        SelectK(NONEXISTENT) :: rest
-    })(steps)
-  }
-
   private def multipleLabelsWorkaround(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     steps match {
       case Vertex :: (_: HasLabel) :: (_: HasLabel) :: _ =>
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.opencypher.gremlin.translation.Tokens._
+import org.opencypher.gremlin.translation.ir.TraversalHelper._
+import org.opencypher.gremlin.translation.ir.model._
+
+/**
+  * This rewriter finds `WHERE` expressions that compare the id of a pattern element with a parameter
+  * and passes the parameter to the graph step that starts the pattern,
+  * so that elements are looked up by id instead of scanning the whole graph.
+  * Relationships can only be looked up at the start of the traversal.
+  *
+  * The `WHERE` expressions are kept, to preserve Cypher comparison semantics.
+  * Literals are not relocated, as their type may differ from the type of element ids in the graph.
+  */
+object RelocateIdPredicates extends GremlinRewriter {
+  override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    val segments = split(AfterStep, {
+      case FlatMapT(Project(_*) :: _) => true
+      case Project(_*)                => true
+      case _                          => false
+    })(steps)
+
+    segments match {
+      case first :: rest =>
+        mapTraversals(lookupVertices)(lookupEdges(first)) ++ rest.flatMap(mapTraversals(lookupVertices))
+      case _ =>
+        steps
+    }
+  }
+
+  private def lookupVertices(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    val ids = idPredicates(steps)
+    if (ids.isEmpty) {
+      return steps
+    }
+
+    replace({
+      case Vertex :: As(stepLabel) :: rest if ids.contains(stepLabel) =>
+        VertexIds(ids(stepLabel)) :: As(stepLabel) :: rest
+    })(steps)
+  }
+
+  private def lookupEdges(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    lazy val ids = idPredicates(steps)
+    steps match {
+      case Edge :: As(stepLabel) :: rest if ids.contains(stepLabel) =>
+        EdgeIds(ids(stepLabel)) :: As(stepLabel) :: rest
+      case Vertex :: OutE(edgeLabels @ _*) :: As(stepLabel) :: rest if ids.contains(stepLabel) =>
+        EdgeIds(ids(stepLabel)) :: hasLabel(edgeLabels) ++ (As(stepLabel) :: rest)
+      case Vertex :: InE(edgeLabels @ _*) :: As(stepLabel) :: rest if ids.contains(stepLabel) =>
+        EdgeIds(ids(stepLabel)) :: hasLabel(edgeLabels) ++ (As(stepLabel) :: rest)
+      case _ =>
+        steps
+    }
+  }
+
+  private def hasLabel(edgeLabels: Seq[String]): List[GremlinStep] = {
+    if (edgeLabels.isEmpty) Nil else HasLabel(edgeLabels: _*) :: Nil
+  }
+
+  // Finds parameters that ids of step labels are compared with in WHERE
+  private def idPredicates(steps: Seq[GremlinStep]): Map[String, GremlinBinding] = {
+    extract({
+      case WhereT(And(andTraversals @ _*) :: Nil) :: _ =>
+        andTraversals.flatMap(idPredicate)
+      case WhereT(whereTraversal) :: _ =>
+        idPredicate(whereTraversal).toSeq
+    })(steps).flatten.toMap
+  }
+
+  private def idPredicate(traversal: Seq[GremlinStep]): Option[(String, GremlinBinding)] = {
+    traversal match {
+      case SelectK(stepLabel) :: rest =>
+        elementId(rest) match {
+          case Is(Eq(binding: GremlinBinding)) :: Nil => Some((stepLabel, binding))
+          case _                                      => None
+        }
+      case ChooseT(Constant(binding: GremlinBinding) :: Nil, Constant(_) :: Nil, Constant(NULL) :: Nil) ::
+            Is(Neq(NULL)) :: As(listLabel) :: SelectK(stepLabel) :: rest =>
+        elementId(rest) match {
+          case WhereP(Within(`listLabel`)) :: Nil => Some((stepLabel, binding))
+          case _                                  => None
+        }
+      case _ =>
+        None
+    }
+  }
+
+  private def elementId(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    steps match {
+      case ChooseP(Neq(NULL), Id :: Nil, Constant(NULL) :: Nil) :: Is(Neq(NULL)) :: rest => rest
+      case Id :: rest                                                                     => rest
+      case _                                                                              => Nil
+    }
+  }
+}
@@ -36,6 +36,10 @@ object RemoveMultipleAliases extends GremlinRewriter {
       acc ++ getAliasReplacements(sub, aliasCount)
     })(steps)
 
+    if (replaceAliases.isEmpty) {
+      return steps
+    }
+
     def alias(alias: String) = {
       replaceAliases.getOrElse(alias, alias)
     }
@@ -72,11 +76,11 @@ object RemoveMultipleAliases extends GremlinRewriter {
     def extractAsStepSpans(acc: Seq[Seq[String]], steps: Seq[GremlinStep]): Seq[Seq[String]] = {
       val (_, asStepsPrefix) = steps.span(!isAs(_))
       if (asStepsPrefix.isEmpty) {
-        return acc
+        return acc.reverse
       }
       val (current, rest) = asStepsPrefix.span(isAs)
       val labels = current.map(_.asInstanceOf[As].stepLabel)
-      extractAsStepSpans(acc :+ labels, rest)
+      extractAsStepSpans(labels +: acc, rest)
     }
 
     extractAsStepSpans(Nil, steps)
@@ -20,7 +20,6 @@ import org.opencypher.gremlin.translation.ir.TraversalHelper._
 import org.opencypher.gremlin.translation.ir.model._
 
 import scala.collection.JavaConverters._
-import scala.collection.SortedMap
 
 /**
   * This rewriter removes many cases of `as` steps that have been generated,
@@ -31,26 +30,23 @@ import scala.collection.SortedMap
   */
 object RemoveUnusedAliases extends GremlinRewriter {
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
-    val selected = foldTraversals(SortedMap.empty[String, Int])((acc, localSteps) => {
-      def increment(keys: String*): SortedMap[String, Int] = {
-        keys.foldLeft(acc)((acc, key) => acc.updated(key, acc.getOrElse(key, 0) + 1))
-      }
-
+    val selected = foldTraversals(Set.empty[String])((acc, localSteps) => {
       acc ++ extract({
-        case From(fromStepLabel) :: _      => increment(fromStepLabel)
-        case To(toStepLabel) :: _          => increment(toStepLabel)
-        case SelectK(selectKeys @ _*) :: _ => increment(selectKeys: _*)
-        case Dedup(dedupLabels @ _*) :: _  => increment(dedupLabels: _*)
-        case WhereP(predicate) :: _        => increment(predicateAliases(predicate): _*)
-        case Math(expression) :: _         => increment(MathStepAccessor.getVariables(expression).asScala.toSeq: _*)
+        case From(fromStepLabel) :: _      => Seq(fromStepLabel)
+        case To(toStepLabel) :: _          => Seq(toStepLabel)
+        case SelectK(selectKeys @ _*) :: _ => selectKeys
+        case Dedup(dedupLabels @ _*) :: _  => dedupLabels
+        case WhereP(predicate) :: _        => predicateAliases(predicate)
+        case Math(expression) :: _         => MathStepAccessor.getVariables(expression).asScala.toSeq
       })(localSteps).flatten
     })(steps)
 
-    mapTraversals(traversal =>
-      traversal.flatMap {
-        case As(stepLabel) if !selected.contains(stepLabel) => None
-        case s                                              => Some(s)
-    })(steps)
+    val unused: GremlinStep => Boolean = {
+      case As(stepLabel) => !selected.contains(stepLabel)
+      case _             => false
+    }
+
+    mapTraversals(traversal => if (traversal.exists(unused)) traversal.filterNot(unused) else traversal)(steps)
   }
 
   def predicateAliases(predicate: GremlinPredicate): Seq[String] = {
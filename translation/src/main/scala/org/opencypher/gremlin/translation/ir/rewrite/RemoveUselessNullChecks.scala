@@ -20,6 +20,7 @@ import org.opencypher.gremlin.translation.ir.TraversalHelper._
 import org.opencypher.gremlin.translation.ir.model._
 
 import scala.annotation.tailrec
+import scala.collection.mutable.ListBuffer
 
 /**
   * This rule finds instances of if-not-null pattern and removes them
@@ -27,12 +28,21 @@ import scala.annotation.tailrec
   */
 object RemoveUselessNullChecks extends GremlinRewriter {
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
-    @tailrec def splitterAcc(acc: Seq[GremlinStep], steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    if (steps.isEmpty) {
+      return steps
+    }
+
+    val acc = new ListBuffer[GremlinStep]
+
+    @tailrec def splitterAcc(mapsToNull: Boolean, steps: Seq[GremlinStep]): Seq[GremlinStep] = {
       val (segment, rest) = splitSegment(steps)
-      val rewritten = rewriteSegment(acc ++ segment)
-      if (rest.nonEmpty) splitterAcc(rewritten, rest) else rewritten
+      val priorMapsToNull = mapsToNull || producesNull(segment.init)
+      val last = if (priorMapsToNull) segment.last :: Nil else rewriteNullCheck(segment.last)
+      acc ++= segment.init
+      acc ++= last
+      if (rest.nonEmpty) splitterAcc(priorMapsToNull || producesNull(last), rest) else acc.toList
     }
-    splitterAcc(Nil, steps)
+    splitterAcc(mapsToNull = false, steps)
   }
 
   private def splitSegment(steps: Seq[GremlinStep]): (Seq[GremlinStep], Seq[GremlinStep]) = {
@@ -48,20 +58,18 @@ object RemoveUselessNullChecks extends GremlinRewriter {
     }
   }
 
-  private def rewriteSegment(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
-    val mapsToNull = foldTraversals(false)({ (acc, steps) =>
+  private def producesNull(steps: Seq[GremlinStep]): Boolean = {
+    foldTraversals(false)({ (acc, steps) =>
       acc || steps.exists {
         case MapF(_)        => true
         case Constant(NULL) => true
         case _              => false
       }
-    })(steps.init)
-
-    if (mapsToNull) {
-      return steps
-    }
+    })(steps)
+  }
 
-    val last = steps.last match {
+  private def rewriteNullCheck(step: GremlinStep): Seq[GremlinStep] = {
+    step match {
       case By(SelectK(key) :: ChooseP(Neq(NULL), t, Constant(NULL) :: Nil) :: Nil, None) =>
         By(SelectK(key) +: t, None) :: Nil
       case By(ChooseP(Neq(NULL), t, Constant(NULL) :: Nil) :: Nil, None) =>
@@ -71,6 +79,5 @@ object RemoveUselessNullChecks extends GremlinRewriter {
       case step =>
         step :: Nil
     }
-    steps.init ++ last
   }
 }
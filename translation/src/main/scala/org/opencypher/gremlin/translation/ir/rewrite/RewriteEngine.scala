@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import java.util
+
+import org.opencypher.gremlin.translation.TranslationListener
+import org.opencypher.gremlin.translation.ir.model.GremlinStep
+
+import scala.collection.JavaConverters._
+import scala.collection.immutable.ListMap
+
+/**
+  * Applies rewriters to the IR in order and records per-rewriter statistics.
+  *
+  * Rewriters are expected to be idempotent.
+  * A rewriter is skipped if the IR has not changed since the previous application of the same rewriter.
+  * Rewriting helpers keep unchanged subtrees, so changes are detected by reference in most cases.
+  *
+  * @param rewriters rewriters in order of application
+  */
+class RewriteEngine(rewriters: Seq[GremlinRewriter]) {
+  private val statistics: Map[GremlinRewriter, RewriterStatistics] =
+    ListMap(rewriters.distinct.map(rewriter => rewriter -> new RewriterStatistics(name(rewriter))): _*)
+
+  /**
+    * Rewrites the IR.
+    *
+    * @param ir IR to rewrite
+    * @return rewritten IR
+    */
+  def apply(ir: Seq[GremlinStep]): Seq[GremlinStep] = {
+    apply(ir, TranslationListener.NONE)
+  }
+
+  /**
+    * Rewrites the IR and reports each rewriter application to the listener.
+    *
+    * @param ir       IR to rewrite
+    * @param listener translation listener
+    * @return rewritten IR
+    */
+  def apply(ir: Seq[GremlinStep], listener: TranslationListener): Seq[GremlinStep] = {
+    val (rewritten, _) = rewriters.foldLeft((ir, Map.empty[GremlinRewriter, Seq[GremlinStep]])) {
+      case ((steps, outputs), rewriter) =>
+        val rewriterStatistics = statistics(rewriter)
+        if (outputs.get(rewriter).exists(_ eq steps)) {
+          rewriterStatistics.recordSkip()
+          (steps, outputs)
+        } else {
+          val start = System.nanoTime()
+          val result = rewriter(steps)
+          val changed = !(result eq steps) && result != steps
+          val nanos = System.nanoTime() - start
+          rewriterStatistics.recordApplication(nanos, changed)
+          listener.onRewriter(rewriterStatistics.getName, nanos, changed)
+          val next = if (changed) result else steps
+          (next, outputs.updated(rewriter, next))
+        }
+    }
+    rewritten
+  }
+
+  /**
+    * Gets statistics accumulated by this engine, one entry per distinct rewriter.
+    *
+    * @return rewriter statistics
+    */
+  def getStatistics: util.List[RewriterStatistics] = {
+    new util.ArrayList(statistics.values.asJavaCollection)
+  }
+
+  private def name(rewriter: GremlinRewriter): String = {
+    rewriter.getClass.getSimpleName.stripSuffix("$")
+  }
+}
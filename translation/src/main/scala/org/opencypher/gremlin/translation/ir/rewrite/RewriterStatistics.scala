@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.LongAdder
+
+/**
+  * Accumulated statistics of a rewriter.
+  *
+  * @param name rewriter name
+  */
+class RewriterStatistics(name: String) {
+  private val applications = new LongAdder
+  private val hits = new LongAdder
+  private val skips = new LongAdder
+  private val nanos = new LongAdder
+
+  private[rewrite] def recordApplication(elapsedNanos: Long, changed: Boolean): Unit = {
+    applications.increment()
+    nanos.add(elapsedNanos)
+    if (changed) {
+      hits.increment()
+    }
+  }
+
+  private[rewrite] def recordSkip(): Unit = {
+    skips.increment()
+  }
+
+  def getName: String = name
+
+  /**
+    * @return number of times the rewriter was applied
+    */
+  def getApplications: Long = applications.sum()
+
+  /**
+    * @return number of applications that changed the IR
+    */
+  def getHits: Long = hits.sum()
+
+  /**
+    * @return number of times the rewriter was skipped, because the IR was not changed since its previous application
+    */
+  def getSkips: Long = skips.sum()
+
+  /**
+    * @param unit time unit
+    * @return total time spent in the rewriter
+    */
+  def getTime(unit: TimeUnit): Long = unit.convert(nanos.sum(), TimeUnit.NANOSECONDS)
+
+  override def toString: String =
+    s"$name: applications=$getApplications, hits=$getHits, skips=$getSkips, time=${getTime(TimeUnit.MICROSECONDS)}us"
+}
@@ -17,18 +17,25 @@ package org.opencypher.gremlin.translation.ir.verify
 
 import org.opencypher.gremlin.translation.ir.TraversalHelper._
 import org.opencypher.gremlin.translation.ir.model._
+import org.opencypher.gremlin.traversal.CustomFunction
 
 /**
   * This post-condition verifies that custom functions are not used.
   * Such translation will not work in environments without the Cypher plugin.
   */
 object NoCustomFunctions extends GremlinPostCondition {
+  private val ShortestPath = CustomFunction.cypherShortestPath().getName
+
   override def apply(steps: Seq[GremlinStep]): Option[String] = {
     val all = foldTraversals(Seq.empty[String])({ (acc, steps) =>
-      acc ++ extractFunctionNames(steps)
+      extractFunctionNames(steps) ++ acc
     })(steps).sorted.distinct
 
-    if (all.nonEmpty) {
+    if (all.contains(ShortestPath)) {
+      Some(
+        s"Custom functions and predicates are not supported: ${all.mkString(", ")}. " +
+          "shortestPath and allShortestPaths patterns require Cypher extensions")
+    } else if (all.nonEmpty) {
       Some(s"Custom functions and predicates are not supported: ${all.mkString(", ")}")
     } else {
       None
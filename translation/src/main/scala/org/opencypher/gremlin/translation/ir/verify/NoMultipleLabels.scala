@@ -25,7 +25,7 @@ import org.opencypher.gremlin.translation.ir.model._
 object NoMultipleLabels extends GremlinPostCondition {
   override def apply(steps: Seq[GremlinStep]): Option[String] = {
     val multiLabels = foldTraversals(Seq.empty[String])({ (acc, steps) =>
-      acc ++ extractVertexLabels(steps)
+      extractVertexLabels(steps) ++ acc
     })(steps).sorted.distinct
       .filter(_.contains("::"))
 
@@ -46,7 +46,7 @@ object NoMultipleLabels extends GremlinPostCondition {
         case Some(_: HasLabel) =>
           val (filters, rest) = steps.span(_.isInstanceOf[HasLabel])
           val multiLabel = filters.map({ case HasLabel(label) => label }).mkString("::")
-          extractFiltered(acc :+ multiLabel, rest)
+          extractFiltered(multiLabel +: acc, rest)
         case Some(_) =>
           extractFiltered(acc, steps.tail)
         case None =>
@@ -54,7 +54,7 @@ object NoMultipleLabels extends GremlinPostCondition {
       }
     }
 
-    val filtered = extractFiltered(Nil, steps)
+    val filtered = extractFiltered(Nil, steps).reverse
 
     added ++ filtered
   }
@@ -15,21 +15,64 @@
  */
 package org.opencypher.gremlin.translation.translator
 
+import java.util
+
 import org.opencypher.gremlin.translation.ir.rewrite._
 import org.opencypher.gremlin.translation.ir.verify._
 
 /**
   * A flavor defines translation rewriting rules and post-conditions.
+  *
+  * @param hopLimit maximum number of relationships in variable length patterns without an upper bound
   */
 sealed case class TranslatorFlavor private[translation] (
     rewriters: Seq[GremlinRewriter],
-    postConditions: Seq[GremlinPostCondition]) {
+    postConditions: Seq[GremlinPostCondition],
+    hopLimit: Int) {
+  private[translation] def this(rewriters: Seq[GremlinRewriter], postConditions: Seq[GremlinPostCondition]) =
+    this(rewriters, postConditions, TranslatorFlavor.DefaultHopLimit)
+
   def extend(rewriters: Seq[GremlinRewriter], postConditions: Seq[GremlinPostCondition]): TranslatorFlavor =
-    TranslatorFlavor(this.rewriters ++ rewriters, this.postConditions ++ postConditions)
+    TranslatorFlavor(this.rewriters ++ rewriters, this.postConditions ++ postConditions, hopLimit)
+
+  /**
+    * Creates a copy of this flavor with a different limit for variable length patterns
+    * like `-[*]->` or `-[*2..]->`. Patterns with an upper bound are not affected.
+    *
+    * @param hopLimit maximum number of relationships
+    * @return translator flavor
+    * @throws IllegalArgumentException if the limit is not positive
+    */
+  def withHopLimit(hopLimit: Int): TranslatorFlavor = {
+    if (hopLimit <= 0) {
+      throw new IllegalArgumentException(s"Hop limit must be positive: $hopLimit")
+    }
+    TranslatorFlavor(rewriters, postConditions, hopLimit)
+  }
+
+  @transient private[translation] lazy val rewriteEngine: RewriteEngine = new RewriteEngine(rewriters)
+
+  /**
+    * Gets statistics of the rewriters of this flavor,
+    * accumulated by all translations with this flavor instance.
+    *
+    * @return time spent, applications, hits and skips of each rewriter
+    */
+  def getRewriterStatistics: util.List[RewriterStatistics] = rewriteEngine.getStatistics
 }
 
 object TranslatorFlavor {
 
+  /**
+    * Default maximum number of relationships in variable length patterns without an upper bound.
+    */
+  val DefaultHopLimit: Int = 10
+
+  private[translation] def apply(
+      rewriters: Seq[GremlinRewriter],
+      postConditions: Seq[GremlinPostCondition]): TranslatorFlavor =
+    new TranslatorFlavor(rewriters, postConditions)
+
   /**
     * A translator flavor that is suitable
     * for a fully-compliant Gremlin Server or a compatible graph database
@@ -49,6 +92,7 @@ object TranslatorFlavor {
       RemoveIdentityReselect,
       RemoveUnusedAliases,
       SimplifyEdgeTraversal,
+      RelocateIdPredicates,
       SimplifyDelete,
       RemoveUnusedAliases,
       RemoveUselessSteps
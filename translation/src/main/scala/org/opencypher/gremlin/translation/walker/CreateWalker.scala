@@ -18,6 +18,7 @@ package org.opencypher.gremlin.translation.walker
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality.single
 import org.opencypher.gremlin.translation.GremlinSteps
+import org.opencypher.gremlin.translation.Tokens.NULL
 import org.opencypher.gremlin.translation.context.WalkerContext
 import org.opencypher.gremlin.translation.exception.SyntaxException
 import org.opencypher.gremlin.translation.walker.NodeUtils.setProperty
@@ -123,14 +124,20 @@ private class CreateWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T
     }
   }
 
+  /**
+    * Sets all properties of the created element.
+    * Values that are only known at run time can turn out to be `null`,
+    * so they are evaluated once and only set if they are not `null`.
+    */
   def walkProperties(cypherType: CypherType, properties: Seq[(String, Expression)]): Unit = {
-    properties.filter {
-      case (_, Null()) => false
-      case _           => true
-    }.foreach {
-      case (key, expression) =>
+    val p = context.dsl.predicates()
+    properties.foreach {
+      case (_, Null()) =>
+      case (key, expression @ (_: Literal | _: ListLiteral | _: MapExpression)) =>
         val traversal = ExpressionWalker.walkLocal(context, g, expression)
         setProperty(g, cypherType, key, traversal)
+      case (key, expression) =>
+        ExpressionWalker.walkEvaluatedProperty(context, g, cypherType, key, expression, p.isEq(NULL))
     }
   }
 
@@ -15,6 +15,8 @@
  */
 package org.opencypher.gremlin.translation.walker
 
+import java.util.Collections
+
 import org.apache.tinkerpop.gremlin.process.traversal.Scope
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality.single
 import org.apache.tinkerpop.gremlin.structure.{Column, Vertex}
@@ -52,6 +54,16 @@ object ExpressionWalker {
       value: Expression): GremlinSteps[T, P] = {
     new ExpressionWalker(context, g).walkProperty(cypherType, key, value)
   }
+
+  def walkEvaluatedProperty[T, P](
+      context: WalkerContext[T, P],
+      g: GremlinSteps[T, P],
+      cypherType: CypherType,
+      key: String,
+      value: Expression,
+      absent: P): GremlinSteps[T, P] = {
+    new ExpressionWalker(context, g).walkEvaluatedProperty(cypherType, key, value, absent)
+  }
 }
 
 private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
@@ -286,14 +298,43 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     }
   }
 
+  /**
+    * Sets a property, or removes it if the value is `null` or an empty list.
+    * Constant values are checked before setting them, so that the check can be simplified by rewriters.
+    * Other values are evaluated once, see [[walkEvaluatedProperty]].
+    */
   def walkProperty(cypherType: CypherType, key: String, value: Expression): GremlinSteps[T, P] = {
     val p = context.dsl.predicates()
+    value match {
+      case _: Literal | _: Null | _: Parameter | _: ListLiteral | _: MapExpression =>
+        val traversal = walkLocal(value)
+        g.choose(
+          g.start().flatMap(traversal).is(p.neq(NULL)).unfold(),
+          setProperty(g.start(), cypherType, key, traversal),
+          g.start().sideEffect(g.start().properties(key).drop())
+        )
+      case _ =>
+        walkEvaluatedProperty(cypherType, key, value, p.within(NULL, Collections.emptyList()))
+    }
+  }
+
+  /**
+    * Evaluates the value once and sets the property to it,
+    * or removes the property if the value matches `absent`.
+    */
+  def walkEvaluatedProperty(cypherType: CypherType, key: String, value: Expression, absent: P): GremlinSteps[T, P] = {
     val traversal = walkLocal(value)
-    g.choose(
-      g.start().flatMap(traversal).is(p.neq(NULL)).unfold(),
-      setProperty(g.start(), cypherType, key, traversal),
-      g.start().sideEffect(g.start().properties(key).drop())
-    )
+    val elementName = context.generateName()
+    val valueName = context.generateName()
+    g.as(elementName)
+      .flatMap(traversal)
+      .as(valueName)
+      .select(elementName)
+      .choose(
+        g.start().select(valueName).is(absent),
+        g.start().sideEffect(g.start().properties(key).drop()),
+        setProperty(g.start(), cypherType, key, g.start().select(valueName))
+      )
   }
 
   private def typeOf(expr: Expression): CypherType = {
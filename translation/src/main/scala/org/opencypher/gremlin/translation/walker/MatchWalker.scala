@@ -22,10 +22,21 @@ import org.opencypher.gremlin.translation.walker.NodeUtils._
 import org.opencypher.v9_0.ast._
 import org.opencypher.v9_0.expressions._
 
+import scala.collection.mutable
+
 object MatchWalker {
 
-  def walkClause[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P], node: Match): Unit = {
-    new MatchWalker(context, g).walkClause(node)
+  /**
+    * Walks a `MATCH` clause.
+    *
+    * @param distinct true if the clause is followed by a projection of distinct values without aggregation
+    */
+  def walkClause[T, P](
+      context: WalkerContext[T, P],
+      g: GremlinSteps[T, P],
+      node: Match,
+      distinct: Boolean = false): Unit = {
+    new MatchWalker(context, g).walkClause(node, distinct)
   }
 
   def walkPatternParts[T, P](
@@ -39,18 +50,44 @@ object MatchWalker {
 
 private class MatchWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
 
-  def walkClause(node: Match): Unit = {
+  def walkClause(node: Match, distinct: Boolean): Unit = {
     val Match(optional, Pattern(patternParts), _, whereOption) = node
     if (optional) {
       walkOptionalMatch(patternParts, whereOption)
     } else {
-      walkPatternParts(patternParts, whereOption)
+      walkPatternParts(patternParts, whereOption, distinct)
     }
   }
 
   private def walkOptionalMatch(patternParts: Seq[PatternPart], whereOption: Option[Where]): Unit = {
     ensureFirstStatement(g, context)
 
+    if (patternParts.exists(_.isInstanceOf[NamedPatternPart])) {
+      walkOptionalPath(patternParts, whereOption)
+      return
+    }
+
+    val aliases = getNewAliases(patternParts, context)
+
+    val subG = g.start()
+    MatchWalker.walkPatternParts(context, subG, patternParts, whereOption)
+
+    val nullG = g.start()
+    if (aliases.size > 1) {
+      nullG.project(aliases: _*)
+      aliases.foreach(_ => nullG.by(g.start().constant(NULL)))
+    } else {
+      nullG.constant(NULL)
+    }
+
+    g.coalesce(selectAliases(subG, aliases, context), nullG)
+    labelAliases(g, aliases, context)
+  }
+
+  /**
+    * Named paths are read from the traverser path, which does not survive `coalesce`.
+    */
+  private def walkOptionalPath(patternParts: Seq[PatternPart], whereOption: Option[Where]): Unit = {
     val nullG = g.start().constant(NULL)
     val contextNullG = context.copy()
     getPathTraversalAliases(patternParts.head)
@@ -63,17 +100,82 @@ private class MatchWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
     g.choose(subG, subG, nullG)
   }
 
-  def walkPatternParts(patternParts: Seq[PatternPart], whereOption: Option[Where]): Unit = {
-    patternParts.foreach {
-      case EveryPath(patternElement) =>
-        PatternWalker.walk(context, g, patternElement)
-      case NamedPatternPart(Variable(pathName), EveryPath(patternElement)) =>
-        PatternWalker.walk(context, g, patternElement, Some(pathName))
-        g.as(MATCH_END + pathName).path().as(pathName)
-      case n =>
-        context.unsupported("match pattern", n)
+  def walkPatternParts(patternParts: Seq[PatternPart], whereOption: Option[Where], distinct: Boolean = false): Unit = {
+    val previous = patternParts.flatMap(nodeNames).filter(context.isReferenced).toSet
+    var bound = Set.empty[String]
+    orderPatternParts(patternParts, whereOption).foreach { patternPart =>
+      patternPart match {
+        case EveryPath(patternElement) =>
+          PatternWalker.walkMatch(context, g, patternElement, whereOption, bound, distinct)
+        case NamedPatternPart(Variable(pathName), EveryPath(patternElement)) =>
+          PatternWalker.walk(context, g, patternElement, Some(pathName))
+          g.as(MATCH_END + pathName).path().as(pathName)
+        case ShortestPaths(patternElement, single) =>
+          PatternWalker.walkShortestPath(context, g, patternElement, single, None, whereOption)
+        case NamedPatternPart(Variable(pathName), ShortestPaths(patternElement, single)) =>
+          PatternWalker.walkShortestPath(context, g, patternElement, single, Some(pathName), whereOption)
+          g.as(MATCH_END + pathName).path().from(MATCH_START + pathName).as(pathName)
+        case n =>
+          context.unsupported("match pattern", n)
+      }
+      bound ++= nodeNames(patternPart).filterNot(previous.contains)
     }
 
     whereOption.foreach(WhereWalker.walk(context, g, _))
   }
+
+  /**
+    * Orders comma-separated pattern parts by estimated cost.
+    * Parts that share a node with already ordered parts are walked from that node,
+    * and go before parts that have to be walked from scratch.
+    * Parts are kept as written if property values depend on other variables,
+    * or if a path is named, because a named path includes everything matched before it.
+    * Shortest path parts go last, so that their end nodes are matched by other parts if possible.
+    */
+  private def orderPatternParts(patternParts: Seq[PatternPart], whereOption: Option[Where]): Seq[PatternPart] = {
+    val (shortestPaths, otherParts) = patternParts.partition {
+      case _: ShortestPaths                      => true
+      case NamedPatternPart(_, _: ShortestPaths) => true
+      case _                                     => false
+    }
+    orderPatternChains(otherParts, whereOption) ++ shortestPaths
+  }
+
+  private def orderPatternChains(patternParts: Seq[PatternPart], whereOption: Option[Where]): Seq[PatternPart] = {
+    val chains = patternParts.map(patternPart => (patternPart, flattenRelationshipChain(patternPart.element))).toMap
+    val cost = new PatternCost(context, whereOption)
+    val namedPath = patternParts.exists(_.isInstanceOf[NamedPatternPart])
+    if (patternParts.size < 2 || namedPath || !chains.values.forall(cost.isConstant)) {
+      return patternParts
+    }
+
+    val remaining = mutable.ArrayBuffer(patternParts: _*)
+    val ordered = mutable.ArrayBuffer.empty[PatternPart]
+    var bound = Set.empty[String]
+    while (remaining.nonEmpty) {
+      val connected = remaining.collect {
+        case patternPart @ EveryPath(_) if nodeNames(patternPart).exists(bound.contains) =>
+          val chain = chains(patternPart)
+          val index = chain.indexWhere {
+            case NodePattern(Some(Variable(name)), _, _, _) => bound.contains(name)
+            case _                                          => false
+          }
+          (patternPart, cost.joinCost(chain, index))
+      }
+      val candidates =
+        if (connected.nonEmpty) connected
+        else remaining.map(patternPart => (patternPart, cost.scanCost(chains(patternPart))))
+      val (next, _) = candidates.minBy { case (_, c) => c }
+      remaining.remove(remaining.indexOf(next))
+      ordered += next
+      bound ++= nodeNames(next).filterNot(context.isReferenced)
+    }
+    ordered
+  }
+
+  private def nodeNames(patternPart: PatternPart): Seq[String] = {
+    flattenRelationshipChain(patternPart.element).collect {
+      case NodePattern(Some(Variable(name)), _, _, _) => name
+    }
+  }
 }
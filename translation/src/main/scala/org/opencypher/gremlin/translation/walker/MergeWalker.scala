@@ -17,10 +17,13 @@ package org.opencypher.gremlin.translation.walker
 
 import org.opencypher.gremlin.translation.GremlinSteps
 import org.opencypher.gremlin.translation.context.WalkerContext
-import org.opencypher.gremlin.translation.walker.NodeUtils.{getPathTraversalAliases, _}
+import org.opencypher.gremlin.translation.walker.NodeUtils._
 import org.opencypher.v9_0.ast._
 import org.opencypher.v9_0.expressions._
 import org.opencypher.v9_0.util.InputPosition.NONE
+import org.opencypher.v9_0.util.{Rewriter, topDown}
+
+import scala.collection.mutable
 
 /**
   * AST walker that handles translation
@@ -39,21 +42,71 @@ private class MergeWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
     walkMerge(g, patternParts, actions)
   }
 
+  /**
+    * Looks up the pattern once and creates it if there is no match.
+    * Actions are applied in the branch that was taken.
+    */
   private def walkMerge(g: GremlinSteps[T, P], patternParts: Seq[PatternPart], actions: Seq[MergeAction]): Unit = {
     ensureFirstStatement(g, context)
 
+    val aliases = getNewAliases(patternParts, context)
+    val mergeParts = evaluateProperties(patternParts, aliases)
+
     val createG = g.start().identity()
     val contextCreateG = context.copy()
-    CreateWalker.walkClause(contextCreateG, createG, Create(Pattern(patternParts)(NONE))(NONE))
+    CreateWalker.walkClause(contextCreateG, createG, Create(Pattern(mergeParts)(NONE))(NONE))
 
     val matchG = g.start()
-    MatchWalker.walkPatternParts(context, matchG, patternParts, None)
+    MatchWalker.walkPatternParts(context, matchG, mergeParts, None)
 
     actions.foreach {
       case OnMatch(action: SetClause)  => SetWalker.walkClause(context, matchG, action)
       case OnCreate(action: SetClause) => SetWalker.walkClause(contextCreateG, createG, action)
     }
 
-    g.choose(matchG, matchG, createG)
+    g.coalesce(
+      selectAliases(matchG, aliases, context),
+      selectAliases(createG, aliases, context)
+    )
+    labelAliases(g, aliases, context)
+  }
+
+  /**
+    * Evaluates property values that depend on earlier clauses once per row,
+    * so that candidates are compared with a value instead of an expression.
+    */
+  private def evaluateProperties(patternParts: Seq[PatternPart], aliases: Seq[String]): Seq[PatternPart] = {
+    val names = mutable.Map.empty[Expression, String]
+
+    def evaluate(value: Expression): Expression = {
+      val name = names.getOrElseUpdate(value, {
+        val generated = context.generateName()
+        g.map(ExpressionWalker.walkLocal(context, g, value)).as(generated)
+        generated
+      })
+      Variable(name)(value.position)
+    }
+
+    def evaluateMap(properties: Option[Expression]): Option[Expression] = properties.map {
+      case map @ MapExpression(items) =>
+        MapExpression(items.map {
+          case (key, value) if isEvaluated(value, aliases) => (key, evaluate(value))
+          case item                                        => item
+        })(map.position)
+      case expression => expression
+    }
+
+    val rewriter = Rewriter.lift {
+      case node: NodePattern =>
+        node.copy(properties = evaluateMap(node.properties))(node.position)
+      case relationship: RelationshipPattern =>
+        relationship.copy(properties = evaluateMap(relationship.properties))(relationship.position)
+    }
+    patternParts.map(_.endoRewrite(topDown(rewriter)))
+  }
+
+  private def isEvaluated(expression: Expression, aliases: Seq[String]): Boolean = expression match {
+    case _: Literal | _: Parameter | _: Variable => false
+    case _                                       => expression.dependencies.forall(v => !aliases.contains(v.name))
   }
 }
@@ -38,7 +38,7 @@ object NodeUtils {
   }
 
   def inlineExpressionValue[T, P, R <: AnyRef](node: Expression, context: WalkerContext[T, P], klass: Class[R]): R = {
-    val parameterHandler = (name: String) => context.inlineParameter(name, klass)
+    val parameterHandler = (name: String) => context.unsupported("inlined parameter", name)
     traversalValueToJava(node, context, parameterHandler).asInstanceOf[R]
   }
 
@@ -96,6 +96,16 @@ object NodeUtils {
     }
   }
 
+  /**
+    * Named aliases of pattern parts that are not yet in use.
+    */
+  def getNewAliases[T, P](patternParts: Seq[PatternPart], context: WalkerContext[T, P]): Seq[String] = {
+    patternParts
+      .flatMap(getPathTraversalAliases)
+      .distinct
+      .filterNot(name => name.startsWith(UNNAMED) || context.isReferenced(name))
+  }
+
   def flattenRelationshipChain(node: ASTNode): Vector[ASTNode] = {
     flattenRelationshipChain(Vector(), node)
   }
@@ -161,6 +171,36 @@ object NodeUtils {
     g
   }
 
+  /**
+    * Ends a `coalesce` branch with values of the given aliases.
+    * Labels set inside `coalesce` branches are not visible to later steps,
+    * so the values are labeled again with [[labelAliases]].
+    */
+  def selectAliases[T, P](
+      traversal: GremlinSteps[T, P],
+      aliases: Seq[String],
+      context: WalkerContext[T, P]): GremlinSteps[T, P] = {
+    aliases match {
+      case Seq()      =>
+      case Seq(alias) => traversal.select(alias)
+      case _ =>
+        traversal.project(aliases: _*)
+        aliases.foreach(alias => traversal.by(context.dsl.steps().start().select(alias)))
+    }
+    traversal
+  }
+
+  def labelAliases[T, P](g: GremlinSteps[T, P], aliases: Seq[String], context: WalkerContext[T, P]): Unit = {
+    aliases match {
+      case Seq()      =>
+      case Seq(alias) => g.as(alias)
+      case _ =>
+        val rowName = context.generateName()
+        g.as(rowName)
+        aliases.foreach(alias => g.select(rowName).select(alias).as(alias))
+    }
+  }
+
   def setProperty[T, P](
       traversal: GremlinSteps[T, P],
       cypherType: CypherType,
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.walker
+
+import org.apache.tinkerpop.gremlin.structure.Direction
+import org.opencypher.gremlin.translation.context.WalkerContext
+import org.opencypher.v9_0.ast.Where
+import org.opencypher.v9_0.expressions.SemanticDirection._
+import org.opencypher.v9_0.expressions._
+import org.opencypher.v9_0.util.ASTNode
+
+import scala.collection.JavaConverters._
+import scala.collection.mutable
+
+/**
+  * Cost model for `MATCH` patterns, based on the
+  * [[org.opencypher.gremlin.translation.SelectivityEstimator]] of the walker context.
+  * Chains are flattened relationship chains of alternating node and relationship patterns.
+  *
+  * @param context     walker context
+  * @param whereOption `WHERE` clause of the `MATCH`, which top-level conjuncts constrain pattern nodes
+  */
+private[walker] class PatternCost[T, P](context: WalkerContext[T, P], whereOption: Option[Where]) {
+  private val predicates = wherePredicates(whereOption)
+
+  /**
+    * Checks if a chain can be walked starting from any node.
+    * Chains are kept as written if they refer to aliases from previous clauses,
+    * have variable length relationships, or property values that depend on other variables.
+    */
+  def isReorderable(chain: Vector[ASTNode]): Boolean = {
+    isConstant(chain) && chain.forall {
+      case NodePattern(variable, _, _, _) =>
+        variable.forall(v => !context.isReferenced(v.name))
+      case RelationshipPattern(variable, _, length, _, _, _, _) =>
+        variable.forall(v => !context.isReferenced(v.name)) && length.isEmpty
+      case _ =>
+        false
+    }
+  }
+
+  /**
+    * Checks if all inline property values of a chain are literals or parameters.
+    */
+  def isConstant(chain: Vector[ASTNode]): Boolean = chain.forall {
+    case NodePattern(_, _, properties, _)                  => properties.forall(isConstantMap)
+    case RelationshipPattern(_, _, _, properties, _, _, _) => properties.forall(isConstantMap)
+    case _                                                 => false
+  }
+
+  /**
+    * Finds the index of the node to start a chain from,
+    * which is the first node with the lowest [[startCost]].
+    */
+  def startIndex(chain: Vector[ASTNode]): Int = {
+    if (!isReorderable(chain) || chain.size < 3) {
+      return 0
+    }
+    val costs = nodeIndices(chain).map(index => (startCost(chain, index), index))
+    val (firstCost, _) = costs.head
+    val (bestCost, bestIndex) = costs.minBy { case (cost, _) => cost }
+    if (bestCost < firstCost) bestIndex else 0
+  }
+
+  /**
+    * Estimates the cost of walking a chain from scratch.
+    */
+  def scanCost(chain: Vector[ASTNode]): Double = {
+    startCost(chain, startIndex(chain))
+  }
+
+  /**
+    * Estimates the cost of walking a chain from a node that is already matched,
+    * relative to the cost of walking chains from scratch.
+    */
+  def joinCost(chain: Vector[ASTNode], index: Int): Double = {
+    expansion(chain, index)
+  }
+
+  /**
+    * Estimated number of vertices that match the start node,
+    * multiplied by the average degrees of relationships along the chain.
+    */
+  def startCost(chain: Vector[ASTNode], index: Int): Double = {
+    val NodePattern(variable, labels, properties, _) = chain(index)
+    val name = variable.map(_.name)
+    val equalityKeys = properties.toSeq.flatMap {
+      case MapExpression(items) => items.map { case (PropertyKeyName(key), _) => key }
+      case _                    => Nil
+    }
+    val estimate = context.selectivity.estimate(
+      nodeLabels(chain(index)).asJava,
+      (equalityKeys.toSet ++ bindings(predicates.equalityKeys, name)).asJava,
+      bindings(predicates.rangeKeys, name).asJava
+    )
+    estimate * expansion(chain, index)
+  }
+
+  private def expansion(chain: Vector[ASTNode], index: Int): Double = {
+    val backward = (index until 0 by -2).map { i =>
+      degree(chain(i), chain(i - 1), reverse = true)
+    }
+    val forward = (index until chain.size - 1 by 2).map { i =>
+      degree(chain(i), chain(i + 1), reverse = false)
+    }
+    (backward ++ forward).product
+  }
+
+  private def degree(node: ASTNode, relationship: ASTNode, reverse: Boolean): Double = {
+    val RelationshipPattern(_, types, _, _, direction, _, _) = relationship
+    val gremlinDirection = (if (reverse) direction.reversed else direction) match {
+      case OUTGOING => Direction.OUT
+      case INCOMING => Direction.IN
+      case BOTH     => Direction.BOTH
+    }
+    context.selectivity.degree(nodeLabels(node).asJava, types.map(_.name).asJava, gremlinDirection)
+  }
+
+  private def nodeIndices(chain: Vector[ASTNode]): Seq[Int] = 0 until chain.size by 2
+
+  private def nodeLabels(node: ASTNode): Set[String] = {
+    val NodePattern(variable, labels, _, _) = node
+    labels.map(_.name).toSet ++ bindings(predicates.labels, variable.map(_.name))
+  }
+
+  private def isConstantMap(expression: Expression): Boolean = expression match {
+    case MapExpression(items) => items.forall { case (_, value) => isConstant(value) }
+    case _                    => false
+  }
+
+  private def isConstant(expression: Expression): Boolean = expression match {
+    case _: Literal | _: Parameter => true
+    case ListLiteral(items)        => items.forall(isConstant)
+    case _                         => false
+  }
+
+  private class WherePredicates {
+    val labels = new mutable.HashMap[String, mutable.Set[String]] with mutable.MultiMap[String, String]
+    val equalityKeys = new mutable.HashMap[String, mutable.Set[String]] with mutable.MultiMap[String, String]
+    val rangeKeys = new mutable.HashMap[String, mutable.Set[String]] with mutable.MultiMap[String, String]
+  }
+
+  private def bindings(map: mutable.MultiMap[String, String], name: Option[String]): Set[String] = {
+    name.flatMap(map.get).map(_.toSet).getOrElse(Set.empty)
+  }
+
+  // Collects top-level WHERE conjuncts that filter a variable by label or property
+  private def wherePredicates(whereOption: Option[Where]): WherePredicates = {
+    val result = new WherePredicates
+    val conjuncts = whereOption.map(_.expression).toSeq.flatMap {
+      case Ands(exprs) => exprs.toSeq
+      case expr        => Seq(expr)
+    }
+    conjuncts.foreach {
+      case HasLabels(Variable(name), labels) =>
+        labels.foreach(label => result.labels.addBinding(name, label.name))
+      case Equals(Property(Variable(name), PropertyKeyName(key)), value) if isConstant(value) =>
+        result.equalityKeys.addBinding(name, key)
+      case Equals(value, Property(Variable(name), PropertyKeyName(key))) if isConstant(value) =>
+        result.equalityKeys.addBinding(name, key)
+      case In(Property(Variable(name), PropertyKeyName(key)), value) if isConstant(value) =>
+        result.equalityKeys.addBinding(name, key)
+      case range: InequalityExpression =>
+        (range.lhs, range.rhs) match {
+          case (Property(Variable(name), PropertyKeyName(key)), value) if isConstant(value) =>
+            result.rangeKeys.addBinding(name, key)
+          case (value, Property(Variable(name), PropertyKeyName(key))) if isConstant(value) =>
+            result.rangeKeys.addBinding(name, key)
+          case _ =>
+        }
+      case _ =>
+    }
+    result
+  }
+}
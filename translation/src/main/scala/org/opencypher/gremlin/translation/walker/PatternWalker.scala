@@ -15,11 +15,13 @@
  */
 package org.opencypher.gremlin.translation.walker
 
-import org.apache.tinkerpop.gremlin.process.traversal.Scope
+import org.apache.tinkerpop.gremlin.structure.{Column, Direction}
 import org.opencypher.gremlin.translation.GremlinSteps
 import org.opencypher.gremlin.translation.Tokens._
 import org.opencypher.gremlin.translation.context.WalkerContext
 import org.opencypher.gremlin.translation.walker.NodeUtils._
+import org.opencypher.gremlin.traversal.CustomFunction
+import org.opencypher.v9_0.ast.Where
 import org.opencypher.v9_0.expressions.SemanticDirection._
 import org.opencypher.v9_0.expressions.{UnsignedDecimalIntegerLiteral => UDIL, _}
 import org.opencypher.v9_0.util.ASTNode
@@ -37,19 +39,215 @@ object PatternWalker {
       pathName: Option[String] = None): Unit = {
     new PatternWalker(context, g).walk(node, pathName)
   }
+
+  /**
+    * Walks a `MATCH` pattern, starting from a node that is already matched by a previous pattern part,
+    * or else from the node that is estimated to be the most selective.
+    *
+    * @param bound    names of nodes matched by previous pattern parts of the same clause
+    * @param distinct true if only distinct bindings of node variables are needed after the match
+    * @see [[org.opencypher.gremlin.translation.SelectivityEstimator]]
+    */
+  def walkMatch[T, P](
+      context: WalkerContext[T, P],
+      g: GremlinSteps[T, P],
+      node: PatternElement,
+      whereOption: Option[Where],
+      bound: Set[String] = Set.empty,
+      distinct: Boolean = false): Unit = {
+    new PatternWalker(context, g).walkMatch(node, whereOption, bound, distinct)
+  }
+
+  /**
+    * Walks a `shortestPath` or `allShortestPaths` pattern, matching unbound end nodes first.
+    *
+    * @param single true for `shortestPath`, false for `allShortestPaths`
+    */
+  def walkShortestPath[T, P](
+      context: WalkerContext[T, P],
+      g: GremlinSteps[T, P],
+      node: PatternElement,
+      single: Boolean,
+      pathName: Option[String],
+      whereOption: Option[Where]): Unit = {
+    new PatternWalker(context, g).walkShortestPath(node, single, pathName, whereOption)
+  }
 }
 
 class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
   def walk(node: PatternElement, pathName: Option[String]): Unit = {
-    context.markFirstStatement()
-    g.V()
-
-    pathName.foreach(name => g.as(MATCH_START + name))
+    val chain = flattenRelationshipChain(node)
+    val (namedChain, aliases) = ensurePatternsHasNames(chain)
+    walkFrom(0, namedChain, aliases, pathName)
+  }
 
+  def walkMatch(node: PatternElement, whereOption: Option[Where], bound: Set[String], distinct: Boolean): Unit = {
     val chain = flattenRelationshipChain(node)
     val (namedChain, aliases) = ensurePatternsHasNames(chain)
+    val cost = new PatternCost(context, whereOption)
+    joinIndex(namedChain, bound, cost) match {
+      case Some(start) =>
+        walkFrom(start, namedChain, aliases, None, joined = true)
+      case None =>
+        walkFrom(cost.startIndex(namedChain), namedChain, aliases, None, distinct = distinct)
+    }
+  }
+
+  /**
+    * A bidirectional breadth-first search between bound end nodes finds the length of shortest paths
+    * and vertices on them. The relationship is then expanded exactly that many times
+    * through these vertices only, so paths that are not shortest are never enumerated.
+    * A single shortest path is the first expansion that reaches the end node.
+    */
+  def walkShortestPath(
+      node: PatternElement,
+      single: Boolean,
+      pathName: Option[String],
+      whereOption: Option[Where]): Unit = {
+    val (namedChain, _) = ensurePatternsHasNames(flattenRelationshipChain(node))
+    val (startNode, relationship, endNode) = namedChain match {
+      case Vector(start: NodePattern, relationship: RelationshipPattern, end: NodePattern) =>
+        (start, relationship, end)
+      case _ =>
+        context.unsupported("shortest path pattern", node)
+    }
+    val RelationshipPattern(_, types, length, _, direction, _, _) = relationship
+    val (minHops, maxHops) = length match {
+      case None =>
+        // -[]->
+        (1, 1)
+      case Some(None) =>
+        // -[*]->
+        (1, -1)
+      case Some(Some(Range(lower, upper))) =>
+        // -[*m..n]->, where m is 0 or 1
+        val minHops = lower.map(_.value.toInt).getOrElse(1)
+        if (minHops > 1) {
+          context.unsupported("shortest path lower bound", minHops)
+        }
+        (minHops, upper.map(_.value.toInt).getOrElse(-1))
+    }
+
+    val NodePattern(Some(Variable(startName)), _, _, _) = startNode
+    val NodePattern(Some(Variable(endName)), _, _, _) = endNode
+    bindNode(startNode, whereOption)
+    bindNode(endNode, whereOption)
+
+    val p = context.dsl.predicates()
+    val typeNames = types.map { case RelTypeName(relName) => relName }.distinct
+    val searchArgs = Seq(
+      g.start().select(startName),
+      g.start().select(endName),
+      g.start().constant(directionName(direction)),
+      g.start().constant(minHops),
+      g.start().constant(maxHops)
+    ) ++ typeNames.map(g.start().constant(_))
+    val search = context.generateName()
+    val lengthName = context.generateName()
+    val verticesName = context.generateName()
+    val argsT = g.start().project(searchArgs.map(_ => context.generateName()): _*)
+    searchArgs.foreach(argsT.by)
+    g.map(argsT.select(Column.values))
+      .map(CustomFunction.cypherShortestPath())
+      .is(p.neq(NULL))
+      .as(search)
+      .select(SHORTEST_PATH_LENGTH)
+      .as(lengthName)
+      .select(search)
+      .select(SHORTEST_PATH_VERTICES)
+      .as(verticesName)
+      .select(startName)
+    pathName.foreach(name => g.as(MATCH_START + name))
+
+    val directionT = relationshipTraversal(pathName, relationship)
+      .where(p.within(verticesName))
+    val expandT = if (single) g.start() else g
+    expandT
+      .until(g.start().loops().where(p.gte(lengthName)))
+      .repeat(directionT)
+      .where(p.isEq(endName))
+    if (single) {
+      g.local(expandT.limit(1))
+    }
+  }
+
+  private def bindNode(node: NodePattern, whereOption: Option[Where]): Unit = {
+    val NodePattern(Some(variable @ Variable(name)), labels, properties, _) = node
+    if (!context.isReferenced(name)) {
+      walkMatch(node, whereOption, Set.empty, distinct = false)
+    } else if (labels.nonEmpty || properties.isDefined) {
+      g.select(name)
+      walkNodeFilters(labels, properties, variable)
+    }
+  }
+
+  private def directionName(direction: SemanticDirection): String = direction match {
+    case BOTH     => Direction.BOTH.name()
+    case INCOMING => Direction.IN.name()
+    case OUTGOING => Direction.OUT.name()
+  }
+
+  /**
+    * Finds the first node of the chain that is matched by a previous pattern part.
+    * The chain can only be walked backwards from the node if it has no variable length relationships
+    * and property values that depend on other variables.
+    */
+  private def joinIndex(chain: Vector[ASTNode], bound: Set[String], cost: PatternCost[T, P]): Option[Int] = {
+    val index = chain.indexWhere {
+      case NodePattern(Some(Variable(name)), _, _, _) => bound.contains(name)
+      case _                                          => false
+    }
+    val reversible = chain.take(index).forall {
+      case RelationshipPattern(_, _, length, _, _, _, _) => length.isEmpty
+      case _                                             => true
+    }
+    if (index < 0 || index > 0 && !(reversible && cost.isConstant(chain))) None else Some(index)
+  }
+
+  /**
+    * Walks the chain backwards from the start node to the first node with reversed relationship directions,
+    * then continues from the start node to the last node.
+    * A joined chain starts from the node that is already matched instead of all vertices.
+    * If the chain starts the traversal and only distinct results are needed,
+    * the first relationship can be expanded by reachability.
+    */
+  private def walkFrom(
+      start: Int,
+      namedChain: Vector[ASTNode],
+      aliases: Vector[String],
+      pathName: Option[String],
+      joined: Boolean = false,
+      distinct: Boolean = false): Unit = {
+    val NodePattern(Some(Variable(startName)), _, _, _) = namedChain(start)
+    if (joined) {
+      g.select(startName)
+    } else {
+      if (distinct && context.isFirstStatement) {
+        reachableFrom = Some(startName)
+      }
+      context.markFirstStatement()
+      g.V()
+    }
+
+    pathName.foreach(name => g.as(MATCH_START + name))
 
-    namedChain.foreach {
+    walkChain(namedChain.take(start + 1).reverse.map(reverseDirection), pathName, joined)
+    if (start > 0 && start < namedChain.size - 1) {
+      g.select(startName)
+    }
+    walkChain(namedChain.drop(start + 1), pathName, joined = false)
+
+    dedupUndirected(namedChain, aliases)
+  }
+
+  private def walkChain(chain: Vector[ASTNode], pathName: Option[String], joined: Boolean): Unit = {
+    if (joined) {
+      val NodePattern(Some(variable: Variable), labels, properties, _) = chain.head
+      walkNodeFilters(labels, properties, variable)
+      walkChain(chain.tail, pathName, joined = false)
+      return
+    }
+    chain.foreach {
       case node: NodePattern =>
         walkNode(node)
       case relationship: RelationshipPattern =>
@@ -57,8 +255,10 @@ class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
       case n =>
         context.unsupported("pattern element", n)
     }
+  }
 
-    val undirected = namedChain.exists {
+  private def dedupUndirected(chain: Vector[ASTNode], aliases: Vector[String]): Unit = {
+    val undirected = chain.exists {
       case RelationshipPattern(_, _, _, _, BOTH, _, _) => true
       case _                                           => false
     }
@@ -67,19 +267,47 @@ class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
     }
   }
 
+  private def reverseDirection(element: ASTNode): ASTNode = element match {
+    case r @ RelationshipPattern(variable, types, length, properties, direction, legacyTypeSeparator, baseRel) =>
+      RelationshipPattern(variable, types, length, properties, direction.reversed, legacyTypeSeparator, baseRel)(
+        r.position)
+    case other =>
+      other
+  }
+
   private def walkNode(node: NodePattern): Unit = {
     val NodePattern(variableOption, labels, properties, _) = node
     val variable @ Variable(name) = variableOption
       .getOrElse(Variable(context.generateName())(NONE))
     asUniqueName(name, g, context)
+    walkNodeFilters(labels, properties, variable)
+  }
+
+  private def walkNodeFilters(labels: Seq[LabelName], properties: Option[Expression], variable: Variable): Unit = {
     labels.foreach(label => g.hasLabel(label.name))
     properties.map(hasProperties(variable, _)).foreach(g.flatMap)
   }
 
-  val traversalStepsHardLimit: Int = gremlinPathLength(10)
+  /**
+    * Name of the start node if the next relationship is expanded from the start of the traversal,
+    * and only distinct bindings of node variables are needed.
+    */
+  private var reachableFrom: Option[String] = None
 
   private def walkRelationship(pathName: Option[String], relationship: RelationshipPattern): Unit = {
-    val RelationshipPattern(variableOption, types, length, properties, direction, _, _) = relationship
+    val directionT = relationshipTraversal(pathName, relationship)
+    val start = reachableFrom.filter(_ => isReachability(pathName, relationship))
+    reachableFrom = None
+    start match {
+      case Some(startName) =>
+        reachable(directionT, startName, relationship.length)
+      case None =>
+        walkLength(pathName, directionT, relationship.length)
+    }
+  }
+
+  private def relationshipTraversal(pathName: Option[String], relationship: RelationshipPattern): GremlinSteps[T, P] = {
+    val RelationshipPattern(variableOption, types, _, properties, direction, _, _) = relationship
     val typeNames = types.map { case RelTypeName(relName) => relName }.distinct
 
     val directionT = g.start()
@@ -99,13 +327,18 @@ class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
       case INCOMING => directionT.outV()
       case OUTGOING => directionT.inV()
     }
+    directionT
+  }
 
+  private def walkLength(
+      pathName: Option[String],
+      directionT: GremlinSteps[T, P],
+      length: Option[Option[Range]]): Unit = {
     val pathStart = PATH_START + pathName.getOrElse(context.generateName().trim())
 
     g.as(pathStart)
-    def pathLengthT = g.start().path().from(pathStart).count(Scope.local)
 
-    val p = context.dsl.predicates()
+    val hopLimit = context.hopLimit
     length match {
       case None =>
         // -[]->
@@ -113,45 +346,82 @@ class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
       case Some(None | Some(Range(None, None))) =>
         // -[*]->
         // -[*..]->
-        g.repeat(directionT)
-          .emit()
-          .until(pathLengthT.is(p.gte(traversalStepsHardLimit)))
+        expand(directionT, 1, hopLimit)
       case Some(Some(range)) =>
         range match {
           case Range(Some(UDIL(lower)), None) =>
             // -[*m..]->
-            val lowerBound = gremlinPathLength(lower.toInt)
-            g.emit()
-              .repeat(directionT)
-              .until(pathLengthT.is(p.gte(traversalStepsHardLimit)))
-              .where(pathLengthT.is(p.gte(lowerBound)))
-              .simplePath()
-              .from(pathStart)
+            expand(directionT, lower.toInt, math.max(lower.toInt, hopLimit))
           case Range(None, Some(UDIL(upper))) =>
             // -[*..n]->
-            val upperBound = gremlinPathLength(upper.toInt)
-            g.repeat(directionT)
-              .emit()
-              .until(pathLengthT.is(p.gte(upperBound)))
-              .where(pathLengthT.is(p.lte(upperBound)))
-              .simplePath()
-              .from(pathStart)
-          case Range(Some(UDIL(lower)), Some(UDIL(upper))) if lower == upper =>
-            // -[*n]->
-            g.times(lower.toInt)
-              .repeat(directionT)
-              .simplePath()
-              .from(pathStart)
+            expand(directionT, 1, upper.toInt)
           case Range(Some(UDIL(lower)), Some(UDIL(upper))) =>
+            // -[*n]->
             // -[*m..n]->
-            val lowerBound = gremlinPathLength(lower.toInt)
-            val upperBound = gremlinPathLength(upper.toInt)
-            g.emit()
-              .repeat(directionT)
-              .until(pathLengthT.is(p.gte(upperBound)))
-              .where(pathLengthT.is(p.between(lowerBound, upperBound + 1)))
-              .simplePath()
-              .from(pathStart)
+            expand(directionT, lower.toInt, upper.toInt)
+        }
+        g.simplePath().from(pathStart)
+      case _ =>
+        context.unsupported("path pattern length", length)
+    }
+  }
+
+  /**
+    * Repeats the relationship traversal between `lower` and `upper` times.
+    * Bounds are checked against the loop counter,
+    * so traversers do not need to rebuild and count their paths on every iteration.
+    */
+  private def expand(directionT: GremlinSteps[T, P], lower: Int, upper: Int): Unit = {
+    val p = context.dsl.predicates()
+    if (upper < lower) {
+      g.limit(0)
+    } else if (upper == lower) {
+      g.times(upper).repeat(directionT)
+    } else {
+      g.emit(g.start().loops().is(p.gte(lower)))
+        .times(upper)
+        .repeat(directionT)
+    }
+  }
+
+  /**
+    * Reachability expansion applies to unnamed directed relationships
+    * with no upper bound and a lower bound of at most one.
+    */
+  private def isReachability(pathName: Option[String], relationship: RelationshipPattern): Boolean = {
+    val RelationshipPattern(variableOption, _, length, _, direction, _, _) = relationship
+    val unnamed = variableOption.forall {
+      case Variable(name) => name.startsWith(UNNAMED) || name.startsWith(GENERATED)
+    }
+    val unbounded = length match {
+      case Some(None | Some(Range(None, None)))       => true
+      case Some(Some(Range(Some(UDIL(lower)), None))) => lower.toInt <= 1
+      case _                                          => false
+    }
+    pathName.isEmpty && unnamed && unbounded && direction != BOTH
+  }
+
+  /**
+    * Expands to every vertex reachable from the start node, visiting each vertex once per start node.
+    * Revisits are pruned, so runtime depends on the size of the reachable set
+    * instead of the number of paths, and the expansion stops on cyclic graphs without a hop limit.
+    * Paths back to the start node are pruned when `simplePath` semantics apply.
+    */
+  private def reachable(directionT: GremlinSteps[T, P], startName: String, length: Option[Option[Range]]): Unit = {
+    val p = context.dsl.predicates()
+    val visited = context.generateName()
+    length match {
+      case Some(None | Some(Range(None, None))) =>
+        // -[*]->
+        g.repeat(directionT.as(visited).dedup(startName, visited)).emit()
+      case Some(Some(Range(Some(UDIL(lower)), None))) =>
+        // -[*0..]->
+        // -[*1..]->
+        directionT.where(p.neq(startName)).as(visited).dedup(startName, visited)
+        if (lower.toInt == 0) {
+          g.emit().repeat(directionT)
+        } else {
+          g.repeat(directionT).emit()
         }
       case _ =>
         context.unsupported("path pattern length", length)
@@ -195,5 +465,4 @@ class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
     }
   }
 
-  private def gremlinPathLength(edges: Int): Int = if (edges == 0) 0 else edges * 2 + 1
 }
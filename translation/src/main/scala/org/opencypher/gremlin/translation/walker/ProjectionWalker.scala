@@ -184,17 +184,25 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     }
 
     for (s <- skip) {
-      val Skip(expression) = s
-      val value = inlineExpressionValue(expression, context, classOf[Number]).longValue()
-      if (value != 0L) {
-        g.skip(value)
+      s.expression match {
+        case Parameter(name, _) =>
+          g.skip(context.parameter(name))
+        case expression =>
+          val value = inlineExpressionValue(expression, context, classOf[Number]).longValue()
+          if (value != 0L) {
+            g.skip(value)
+          }
       }
     }
 
     for (l <- limit) {
-      val Limit(expression) = l
-      val value = inlineExpressionValue(expression, context, classOf[Number]).longValue()
-      g.limit(value)
+      l.expression match {
+        case Parameter(name, _) =>
+          g.limit(context.parameter(name))
+        case expression =>
+          val value = inlineExpressionValue(expression, context, classOf[Number]).longValue()
+          g.limit(value)
+      }
     }
   }
 
@@ -79,7 +79,22 @@ class StatementWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P])
       case Seq(callClause: UnresolvedCall) =>
         CallWalker.walkStandalone(context, g, callClause)
       case _ =>
-        rewriteClauses(clauses).foreach(walkClause)
+        val rewritten = rewriteClauses(clauses)
+        rewritten.zip(rewritten.drop(1).map(Some(_)) :+ None).foreach {
+          case (matchClause: Match, next) =>
+            MatchWalker.walkClause(context, g, matchClause, next.exists(isDistinctProjection))
+          case (clause, _) =>
+            walkClause(clause)
+        }
+    }
+  }
+
+  private def isDistinctProjection(node: ASTNode): Boolean = {
+    node match {
+      case projection: ProjectionClause =>
+        projection.distinct && !projection.returnItems.items.exists(_.expression.containsAggregate)
+      case _ =>
+        false
     }
   }
 
@@ -124,7 +139,8 @@ class StatementWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P])
       case callClause: UnresolvedCall =>
         CallWalker.walk(context, g, callClause)
       case _: EmptyReturn =>
-        g.barrier().limit(0)
+        // Rows are discarded as they come, so that memory does not grow with the number of rows
+        g.is(context.dsl.predicates().isEq(Tokens.NONEXISTENT))
       case _ =>
         context.unsupported("clause", node)
     }
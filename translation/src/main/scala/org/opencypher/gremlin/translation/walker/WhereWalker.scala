@@ -142,8 +142,8 @@ private class WhereWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
       case StartsWith(lhs, rhs)         => walkPredicate(lhs, rhs, p.startsWith)
       case EndsWith(lhs, rhs)           => walkPredicate(lhs, rhs, p.endsWith)
       case Contains(lhs, rhs)           => walkPredicate(lhs, rhs, p.contains)
-      case In(lhs, rhs)                 => walkPredicate(lhs, rhs, p.within(_))
-      case Not(In(lhs, rhs))            => walkPredicate(lhs, rhs, p.without(_))
+      case In(lhs, rhs)                 => walkMembership(lhs, rhs, p.within(_: _*))
+      case Not(In(lhs, rhs))            => walkMembership(lhs, rhs, p.without(_: _*))
 
       case Ands(ands) => __.and(ands.map(walkBooleanExpression).toSeq: _*)
       case Ors(ors)   => __.or(ors.map(walkBooleanExpression).toSeq: _*)
@@ -162,7 +162,11 @@ private class WhereWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
     }
   }
 
-  private def walkPredicate(lhs: Expression, rhs: Expression, predicate: AnyRef => P): GremlinSteps[T, P] = {
+  private def walkPredicate(
+      lhs: Expression,
+      rhs: Expression,
+      predicate: AnyRef => P,
+      inlineParameter: Boolean = true): GremlinSteps[T, P] = {
     val lhsT = walkExpression(lhs)
 
     rhs match {
@@ -171,6 +175,10 @@ private class WhereWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
       case _: Literal | _: Null =>
         val rhsV = expressionValue(rhs, context)
         lhsT.is(predicate(rhsV))
+      case _: Parameter if inlineParameter =>
+        // Compared like a literal with the same value, so that it can be relocated to `has` and graph steps
+        val rhsV = expressionValue(rhs, context)
+        lhsT.is(predicate(rhsV))
       case _ =>
         val rhsName = context.generateName()
         val rhsT = walkExpression(rhs)
@@ -181,6 +189,27 @@ private class WhereWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
     }
   }
 
+  /**
+    * Lists of scalar literals are filtered inline with their items as predicate values,
+    * so that they can be relocated to `has` steps.
+    * Other lists are only known at run time and are compared by label.
+    */
+  private def walkMembership(lhs: Expression, rhs: Expression, predicate: Seq[AnyRef] => P): GremlinSteps[T, P] = {
+    rhs match {
+      case ListLiteral(items) if items.forall(isScalarLiteral) =>
+        val values = items.map(expressionValue(_, context))
+        walkExpression(lhs).is(predicate(values))
+      case _ =>
+        walkPredicate(lhs, rhs, value => predicate(Seq(value)), inlineParameter = false)
+    }
+  }
+
+  private def isScalarLiteral(expression: Expression): Boolean = expression match {
+    case _: Null    => false
+    case _: Literal => true
+    case _          => false
+  }
+
   private def asList(expressions: Expression*): GremlinSteps[T, P] = {
     val keys = expressions.map(_ => context.generateName())
     val traversal = __.project(keys: _*)
@@ -19,6 +19,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,13 +37,20 @@ import static org.opencypher.gremlin.extension.CypherBindingType.RELATIONSHIP;
 import static org.opencypher.gremlin.extension.CypherBindingType.STRING;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import org.assertj.core.data.MapEntry;
 import org.junit.Test;
 import org.opencypher.gremlin.extension.CypherProcedureDefinition;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
 import org.opencypher.v9_0.util.symbols.AnyType;
 import org.opencypher.v9_0.util.symbols.BooleanType;
 import org.opencypher.v9_0.util.symbols.CypherType;
@@ -54,6 +62,7 @@ import org.opencypher.v9_0.util.symbols.NodeType;
 import org.opencypher.v9_0.util.symbols.NumberType;
 import org.opencypher.v9_0.util.symbols.RelationshipType;
 import org.opencypher.v9_0.util.symbols.StringType;
+import scala.collection.Seq;
 
 public class CypherAstTest {
 
@@ -203,4 +212,283 @@ public class CypherAstTest {
         assertThatThrownBy(() -> ast.buildTranslation(translator))
             .hasMessageContaining("cypherContains, cypherEndsWith, cypherSize, cypherStarsWith, cypherToString");
     }
+
+    @Test
+    public void parameterIndependentTranslation() {
+        String cypher = "MATCH (n) RETURN n.name AS name SKIP $skip LIMIT $limit";
+        Map<String, Object> parameters1 = new HashMap<>();
+        parameters1.put("skip", 1L);
+        parameters1.put("limit", 2L);
+        Map<String, Object> parameters2 = new HashMap<>();
+        parameters2.put("skip", 3L);
+        parameters2.put("limit", 4L);
+        TranslatorFlavor flavor = TranslatorFlavor.gremlinServer();
+        Seq<GremlinStep> ir = CypherAst.parse(cypher, parameters1).translate(flavor, ProcedureContext.empty());
+
+        assertThat(CypherAst.parse(cypher, parameters2).translate(flavor, ProcedureContext.empty()))
+            .isEqualTo(ir);
+        assertThat(TranslationWriter.write(ir, Translator.builder().gremlinGroovy().build(), parameters1))
+            .contains(".skip(skip).limit(limit)");
+        assertThat(TranslationWriter.write(ir, Translator.builder().gremlinGroovy().inlineParameters().build(), parameters1))
+            .contains(".skip(1).limit(2)");
+        assertThat(TranslationWriter.write(ir, Translator.builder().gremlinGroovy().inlineParameters().build(), parameters2))
+            .contains(".skip(3).limit(4)");
+    }
+
+    @Test
+    public void translationProfile() {
+        TranslationProfile profile = new TranslationProfile();
+        CypherAst ast = CypherAst.parse("MATCH (n:person) RETURN n.name AS name", emptyMap(), emptyMap(), false, profile);
+        ast.buildTranslation(Translator.builder().gremlinGroovy().build(), profile);
+
+        for (TranslationPhase phase : TranslationPhase.values()) {
+            assertThat(profile.getNanos(phase)).as("Time of %s", phase).isPositive();
+        }
+        assertThat(profile.getStepsBeforeRewriting()).isPositive();
+        assertThat(profile.getStepsAfterRewriting()).isPositive();
+        assertThat(profile.getRewriters()).isNotEmpty();
+        assertThat(profile.toMap().keySet())
+            .containsExactly("phaseNanos", "stepsBeforeRewriting", "stepsAfterRewriting", "rewriters");
+    }
+
+    @Test
+    public void extractLiterals() {
+        CypherAst ast1 = CypherAst.parse("MATCH (n {id: 1}) RETURN n.name AS name, 'a' AS s", emptyMap(), emptyMap(), true);
+        CypherAst ast2 = CypherAst.parse("MATCH (n {id: 2}) RETURN n.name AS name, 'b' AS s", emptyMap(), emptyMap(), true);
+        String translation1 = ast1.buildTranslation(Translator.builder().gremlinGroovy().build());
+        String translation2 = ast2.buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(ast1.statement()).isEqualTo(ast2.statement());
+        assertThat(translation1).isEqualTo(translation2);
+        assertThat(ast1.getExtractedParameters())
+            .containsExactly(entry("_auto0", 1L), entry("_auto1", "a"));
+        assertThat(ast2.getExtractedParameters())
+            .containsExactly(entry("_auto0", 2L), entry("_auto1", "b"));
+        assertReturnTypes(ast1, asList(
+            entry("name", AnyType.class),
+            entry("s", StringType.class)
+        ));
+    }
+
+    @Test
+    public void extractLiteralsSkipsDeclaredParameters() {
+        CypherAst ast = CypherAst.parse(
+            "MATCH (n) WHERE n.x IN [1, 2] AND n.y = $_auto0 RETURN n",
+            singletonMap("_auto0", "y"),
+            emptyMap(),
+            true
+        );
+
+        assertThat(ast.getExtractedParameters())
+            .containsExactly(entry("_auto1", asList(1L, 2L)));
+    }
+
+    @Test
+    public void extractedLiteralsTranslatedLikeParameters() {
+        CypherAst extracted = CypherAst.parse("MATCH (n) WHERE n.age > 30 RETURN n", emptyMap(), emptyMap(), true);
+        CypherAst declared = CypherAst.parse("MATCH (n) WHERE n.age > $_auto0 RETURN n", singletonMap("_auto0", 30L));
+        String extractedTranslation = extracted.buildTranslation(Translator.builder().gremlinGroovy().build());
+        String declaredTranslation = declared.buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(extractedTranslation)
+            .isEqualTo(declaredTranslation)
+            .contains(".has('age', gt(_auto0))");
+    }
+
+    @Test
+    public void inlinedLiteralsNotExtracted() {
+        CypherAst ast = CypherAst.parse(
+            "MATCH (n)-[*1..2]->(m) " +
+                "RETURN range(1, 3)[0] AS r, [1, 2, 3][1..2] AS s " +
+                "SKIP 1 LIMIT 2",
+            emptyMap(),
+            emptyMap(),
+            true
+        );
+
+        assertThat(ast.getExtractedParameters()).isEmpty();
+    }
+
+    @Test
+    public void noLiteralExtractionByDefault() {
+        CypherAst ast = CypherAst.parse("MATCH (n {id: 1}) RETURN n");
+
+        assertThat(ast.getExtractedParameters()).isEmpty();
+    }
+
+    @Test
+    public void concurrentParse() throws Exception {
+        List<String> queries = asList(
+            "MATCH (n:person) WHERE n.age > $age RETURN n.name AS name ORDER BY name",
+            "MATCH (a)-[r:knows]->(b) RETURN a, count(r) AS c",
+            "UNWIND [1, 2, 3] AS x WITH x WHERE x % 2 = 1 RETURN collect(x) AS odd",
+            "MATCH p = (a)-[*1..3]->(b) RETURN length(p) AS l",
+            "CREATE (n:software {name: 'lop'}) RETURN n",
+            "MATCH (n) OPTIONAL MATCH (n)-->(m) RETURN n, m",
+            "MERGE (n:person {name: 'marko'}) ON CREATE SET n.age = 29"
+        );
+        Translator.Builder builder = Translator.builder();
+        Map<String, String> expected = new HashMap<>();
+        for (String query : queries) {
+            expected.put(query, CypherAst.parse(query).buildTranslation(builder.gremlinGroovy().build()));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try {
+            List<String> mismatches = pool.submit(() -> IntStream.range(0, 400)
+                .parallel()
+                .mapToObj(i -> queries.get(i % queries.size()))
+                .filter(query -> !CypherAst.parse(query)
+                    .buildTranslation(builder.gremlinGroovy().build())
+                    .equals(expected.get(query)))
+                .collect(toList())
+            ).get();
+
+            assertThat(mismatches).isEmpty();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void variableLengthBoundsByLoops() {
+        String translation = CypherAst.parse("MATCH (a)-[:knows*2..4]->(b) RETURN b")
+            .buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(translation)
+            .contains(".emit(__.loops().is(gte(2))).times(4).repeat(__.outE('knows').inV())")
+            .doesNotContain("path()");
+    }
+
+    @Test
+    public void hopLimit() {
+        CypherAst ast = CypherAst.parse("MATCH (a)-[*]->(b) RETURN b");
+        TranslatorFlavor flavor = TranslatorFlavor.gremlinServer().withHopLimit(3);
+        Translator<String, GroovyPredicate> translator = Translator.builder().gremlinGroovy().build(flavor);
+
+        assertThat(ast.buildTranslation(translator))
+            .contains(".emit(__.loops().is(gte(1))).times(3).repeat(__.outE().inV())");
+        assertThatThrownBy(() -> TranslatorFlavor.gremlinServer().withHopLimit(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void distinctReachability() {
+        Translator.Builder builder = Translator.builder();
+
+        assertThat(CypherAst.parse("MATCH (a)-[:knows*]->(b) RETURN DISTINCT b")
+            .buildTranslation(builder.gremlinGroovy().build()))
+            .contains(".repeat(__.outE('knows').inV().as('  GENERATED1').dedup('a', '  GENERATED1')).emit()")
+            .doesNotContain("times(");
+        assertThat(CypherAst.parse("MATCH (a)-[:knows*]->(b) RETURN b")
+            .buildTranslation(builder.gremlinGroovy().build()))
+            .doesNotContain("dedup(");
+        assertThat(CypherAst.parse("MATCH (a)-[r:knows*]->(b) RETURN DISTINCT b")
+            .buildTranslation(builder.gremlinGroovy().build()))
+            .doesNotContain("dedup('a'");
+    }
+
+    @Test
+    public void optionalMatchEvaluatedOnce() {
+        Translator.Builder builder = Translator.builder();
+        String single = CypherAst.parse("MATCH (n) OPTIONAL MATCH (n)-[:knows]->(m) RETURN n, m")
+            .buildTranslation(builder.gremlinGroovy().build());
+        String multiple = CypherAst.parse("MATCH (n) OPTIONAL MATCH (n)-[r:knows]->(m) RETURN n, r, m")
+            .buildTranslation(builder.gremlinGroovy().build());
+
+        assertThat(single)
+            .contains(".coalesce(__.select('n').outE('knows').inV().as('m'), __.constant('  cypher.null')).as('m')")
+            .doesNotContain("choose(__.select('n')");
+        assertThat(multiple)
+            .contains(".coalesce(" +
+                "__.select('n').outE('knows').as('r').inV().as('m').project('r', 'm')" +
+                ".by(__.select('r')).by(__.select('m')), " +
+                "__.project('r', 'm').by(__.constant('  cypher.null')).by(__.constant('  cypher.null')))")
+            .doesNotContain("choose(__.select('n')");
+    }
+
+    @Test
+    public void shortestPath() {
+        Translator.Builder builder = Translator.builder();
+        String single = CypherAst.parse("MATCH (a {name: 'a'}), (b {name: 'b'}), p = shortestPath((a)-[:knows*..5]->(b)) RETURN p")
+            .buildTranslation(builder.gremlinGroovy().enableCypherExtensions().build());
+        String all = CypherAst.parse("MATCH (a {name: 'a'}), (b {name: 'b'}), p = allShortestPaths((a)-[*]-(b)) RETURN p")
+            .buildTranslation(builder.gremlinGroovy().enableCypherExtensions().build());
+
+        assertThat(single)
+            .contains(".by(__.constant('OUT')).by(__.constant(1)).by(__.constant(5)).by(__.constant('knows'))")
+            .contains(".map(cypherShortestPath())")
+            .contains(".local(__.until(__.loops().where(gte(")
+            .contains(".where(eq('b')).limit(1))")
+            .doesNotContain("simplePath()");
+        assertThat(all)
+            .contains(".by(__.constant('BOTH')).by(__.constant(1)).by(__.constant(-1))")
+            .contains(".until(__.loops().where(gte(")
+            .doesNotContain("limit(1)");
+        assertThat(CypherAst.parse("MATCH (a), (b), p = shortestPath((a)<-[:knows]-(b)) RETURN p")
+            .buildTranslation(builder.gremlinGroovy().enableCypherExtensions().build()))
+            .contains(".by(__.constant('IN')).by(__.constant(1)).by(__.constant(1)).by(__.constant('knows'))");
+        assertThatThrownBy(() -> CypherAst.parse("MATCH (a), (b), p = shortestPath((a)-[*2..5]->(b)) RETURN p")
+            .buildTranslation(builder.gremlinGroovy().enableCypherExtensions().build()))
+            .hasMessageContaining("minimal length");
+    }
+
+    @Test
+    public void selectivityStartPoint() {
+        CypherAst ast = CypherAst.parse("MATCH (a:person)-[:knows]->(b:person {name: $name}) RETURN a, b");
+        Translator<String, GroovyPredicate> translator = Translator.builder().gremlinGroovy().build();
+        TranslatorFlavor flavor = translator.flavor();
+
+        Seq<GremlinStep> heuristic = ast.translate(flavor, ProcedureContext.empty());
+        Seq<GremlinStep> asWritten = ast.translate(flavor, ProcedureContext.empty(),
+            SelectivityEstimator.NONE, TranslationListener.NONE);
+        Seq<GremlinStep> custom = ast.translate(flavor, ProcedureContext.empty(),
+            (labels, equalityKeys, rangeKeys) -> equalityKeys.isEmpty() ? 1 : 10, TranslationListener.NONE);
+
+        assertThat(TranslationWriter.write(heuristic, translator, emptyMap()))
+            .startsWith("g.V().as('b').hasLabel('person').has('name', eq(name)).inE('knows').outV()");
+        assertThat(TranslationWriter.write(asWritten, Translator.builder().gremlinGroovy().build(), emptyMap()))
+            .startsWith("g.V().as('a').hasLabel('person').outE('knows').inV()");
+        assertThat(TranslationWriter.write(custom, Translator.builder().gremlinGroovy().build(), emptyMap()))
+            .startsWith("g.V().as('a').hasLabel('person').outE('knows').inV()");
+    }
+
+    @Test
+    public void selectivityStartPointKeepsBoundStart() {
+        CypherAst ast = CypherAst.parse("MATCH (a:person) MATCH (a)-[:knows]->(b:person {name: 'josh'}) RETURN a, b");
+
+        String translation = ast.buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(translation).contains("outE('knows')").doesNotContain("inE('knows')");
+    }
+
+    @Test
+    public void patternPartOrder() {
+        CypherAst ast = CypherAst.parse("MATCH (a:person), (b:software) RETURN a, b");
+        Translator<String, GroovyPredicate> translator = Translator.builder().gremlinGroovy().build();
+        GraphStatistics statistics = GraphStatistics.builder()
+            .vertices("person", 1000)
+            .vertices("software", 10)
+            .build();
+
+        Seq<GremlinStep> heuristic = ast.translate(translator.flavor(), ProcedureContext.empty());
+        Seq<GremlinStep> withStatistics = ast.translate(translator.flavor(), ProcedureContext.empty(),
+            statistics, TranslationListener.NONE);
+
+        assertThat(TranslationWriter.write(heuristic, translator, emptyMap()))
+            .startsWith("g.V().as('a').hasLabel('person').V().as('b').hasLabel('software')");
+        assertThat(TranslationWriter.write(withStatistics, Translator.builder().gremlinGroovy().build(), emptyMap()))
+            .startsWith("g.V().as('b').hasLabel('software').V().as('a').hasLabel('person')");
+    }
+
+    @Test
+    public void patternPartJoin() {
+        CypherAst ast = CypherAst.parse("MATCH (b)-[:created]->(c), (a:person {name: 'marko'})-[:knows]->(b) RETURN c");
+
+        String translation = ast.buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(translation)
+            .startsWith("g.V().hasLabel('person').has('name', eq('marko')).outE('knows').inV().outE('created').inV()")
+            .containsOnlyOnce(".V()");
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.junit.Test;
+
+public class GraphStatisticsTest {
+
+    private final GraphStatistics statistics = GraphStatistics.builder()
+        .vertices("person", 4)
+        .vertices("software", 2)
+        .edges("knows", 2)
+        .edges("created", 4)
+        .outEdges("person", "knows", 2)
+        .inEdges("person", "knows", 2)
+        .outEdges("person", "created", 4)
+        .inEdges("software", "created", 4)
+        .build();
+
+    @Test
+    public void counts() {
+        assertThat(statistics.getVertexCount()).isEqualTo(6);
+        assertThat(statistics.getVertexCount("person")).isEqualTo(4);
+        assertThat(statistics.getVertexCount("city")).isEqualTo(0);
+        assertThat(statistics.getEdgeCount()).isEqualTo(6);
+        assertThat(statistics.getEdgeCount("created")).isEqualTo(4);
+    }
+
+    @Test
+    public void averageDegree() {
+        assertThat(statistics.getAverageOutDegree("person", "created")).isEqualTo(1.0);
+        assertThat(statistics.getAverageInDegree("software", "created")).isEqualTo(2.0);
+        assertThat(statistics.getAverageInDegree("person", "created")).isEqualTo(0.0);
+        assertThat(statistics.getAverageOutDegree("city", "created")).isEqualTo(0.0);
+    }
+
+    @Test
+    public void estimate() {
+        assertThat(statistics.estimate(emptySet(), emptySet(), emptySet())).isEqualTo(6.0);
+        assertThat(statistics.estimate(singleton("software"), emptySet(), emptySet())).isEqualTo(2.0);
+        assertThat(statistics.estimate(singleton("person"), singleton("name"), emptySet()))
+            .isCloseTo(0.004, within(1e-9));
+    }
+
+    @Test
+    public void degree() {
+        assertThat(statistics.degree(singleton("person"), singletonList("knows"), Direction.OUT)).isEqualTo(0.5);
+        assertThat(statistics.degree(singleton("person"), singletonList("knows"), Direction.BOTH)).isEqualTo(1.0);
+        assertThat(statistics.degree(singleton("person"), emptyList(), Direction.OUT)).isEqualTo(1.5);
+        assertThat(statistics.degree(emptySet(), singletonList("created"), Direction.IN)).isEqualTo(4.0 / 6);
+    }
+
+    @Test
+    public void equalMagnitudes() {
+        GraphStatistics same = GraphStatistics.builder()
+            .vertices("software", 2)
+            .vertices("person", 4)
+            .edges("created", 4)
+            .edges("knows", 2)
+            .outEdges("person", "created", 4)
+            .outEdges("person", "knows", 2)
+            .inEdges("software", "created", 4)
+            .inEdges("person", "knows", 2)
+            .build();
+        GraphStatistics other = GraphStatistics.builder()
+            .vertices("person", 4)
+            .vertices("software", 2)
+            .edges("knows", 2)
+            .edges("created", 4)
+            .outEdges("person", "knows", 2)
+            .inEdges("person", "knows", 2)
+            .outEdges("person", "created", 3)
+            .outEdges("software", "created", 1)
+            .inEdges("software", "created", 4)
+            .build();
+
+        assertThat(statistics).isEqualTo(same);
+        assertThat(statistics.hashCode()).isEqualTo(same.hashCode());
+        assertThat(statistics).isNotEqualTo(other);
+    }
+
+    @Test
+    public void changedMagnitudes() {
+        GraphStatistics written = GraphStatistics.builder()
+            .vertices("person", 5)
+            .vertices("software", 3)
+            .edges("knows", 3)
+            .edges("created", 5)
+            .outEdges("person", "knows", 3)
+            .inEdges("person", "knows", 3)
+            .outEdges("person", "created", 5)
+            .inEdges("software", "created", 5)
+            .build();
+        GraphStatistics grown = GraphStatistics.builder()
+            .vertices("person", 40)
+            .vertices("software", 2)
+            .edges("knows", 2)
+            .edges("created", 4)
+            .outEdges("person", "knows", 2)
+            .inEdges("person", "knows", 2)
+            .outEdges("person", "created", 4)
+            .inEdges("software", "created", 4)
+            .build();
+
+        assertThat(statistics).isEqualTo(written);
+        assertThat(statistics.hashCode()).isEqualTo(written.hashCode());
+        assertThat(statistics).isNotEqualTo(grown);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+
+public class TranslationFacadeTest {
+
+    private final TranslationFacade facade = new TranslationFacade();
+
+    @Test
+    public void batchInInputOrder() {
+        List<String> queries = IntStream.range(0, 50)
+            .mapToObj(i -> "RETURN " + i + " AS n")
+            .collect(toList());
+
+        List<TranslationResult<String>> results = facade.toGremlinGroovy(queries, TranslatorFlavor.gremlinServer());
+
+        assertThat(results).hasSize(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            TranslationResult<String> result = results.get(i);
+            assertThat(result.getCypher()).isEqualTo(queries.get(i));
+            assertThat(result.getTranslation()).isEqualTo(facade.toGremlinGroovy(queries.get(i)));
+        }
+    }
+
+    @Test
+    public void batchErrors() {
+        List<TranslationResult<String>> results = facade.toGremlinGroovy(
+            asList("MATCH (n) RETURN n", "MATCH (n RETURN n", "RETURN 1 AS one"),
+            TranslatorFlavor.gremlinServer()
+        );
+
+        assertThat(results).extracting(TranslationResult::isSuccess)
+            .containsExactly(true, false, true);
+        assertThat(results.get(1).getError()).isNotNull();
+        assertThatThrownBy(() -> results.get(1).getTranslation())
+            .isSameAs(results.get(1).getError());
+    }
+
+    @Test
+    public void batchOnPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<String> queries = IntStream.range(0, 10)
+                .mapToObj(i -> "MATCH (n) RETURN n.p" + i + " AS p")
+                .collect(toList());
+
+            List<TranslationResult<String>> results = facade.toGremlinGroovy(
+                queries.stream(),
+                TranslatorFlavor.cosmosDb(),
+                pool
+            );
+
+            assertThat(results).extracting(TranslationResult::getCypher)
+                .containsExactlyElementsOf(queries);
+            assertThat(results).allMatch(TranslationResult::isSuccess);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.translator;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.junit.Test;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
+
+public class TranslatorConfigurationTest {
+
+    @Test
+    public void newTranslatorPerQuery() {
+        TranslatorConfiguration<String, GroovyPredicate> configuration = Translator.builder()
+            .gremlinGroovy()
+            .enableCypherExtensions()
+            .buildConfiguration(TranslatorFlavor.gremlinServer());
+        CypherAst ast = CypherAst.parse("MATCH (n) RETURN n.name AS name");
+
+        String translation1 = ast.buildTranslation(configuration.newTranslator());
+        String translation2 = ast.buildTranslation(configuration.newTranslator());
+
+        assertThat(translation1).isEqualTo(translation2);
+        assertThat(configuration.isEnabled(TranslatorFeature.CYPHER_EXTENSIONS)).isTrue();
+        assertThat(configuration.isEnabled(TranslatorFeature.MULTIPLE_LABELS)).isFalse();
+    }
+
+    @Test
+    public void concurrentTranslation() {
+        TranslatorConfiguration<String, GroovyPredicate> configuration = Translator.builder()
+            .gremlinGroovy()
+            .buildConfiguration();
+        CypherAst ast = CypherAst.parse("MATCH (n:person) RETURN n.name AS name");
+        String expected = ast.buildTranslation(configuration.newTranslator());
+
+        List<String> translations = IntStream.range(0, 100)
+            .parallel()
+            .mapToObj(i -> ast.buildTranslation(configuration.newTranslator()))
+            .collect(toList());
+
+        assertThat(translations).containsOnly(expected);
+    }
+
+    @Test
+    public void boundTraversalNotReusable() {
+        assertThatThrownBy(() -> Translator.builder().traversal(new DefaultGraphTraversal()).buildConfiguration())
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
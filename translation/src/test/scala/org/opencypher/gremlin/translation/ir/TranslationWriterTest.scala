@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir
+
+import java.util.Collections.singletonMap
+
+import org.apache.tinkerpop.gremlin.process.traversal.{Bytecode, P}
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst
+import org.opencypher.gremlin.translation.bytecode._
+import org.opencypher.gremlin.translation.translator.{Translator, TranslatorFlavor}
+import org.opencypher.gremlin.traversal.ProcedureContext
+
+import scala.collection.JavaConverters._
+
+class TranslationWriterTest {
+
+  private def nestedBytecode(bytecode: Bytecode): Seq[Bytecode] = {
+    bytecode.getStepInstructions.asScala
+      .flatMap(_.getArguments)
+      .collect { case nested: Bytecode => nested }
+  }
+
+  private def sharingTranslator = {
+    Translator.builder().bytecode().enableSharedFragments().build()
+  }
+
+  @Test
+  def shareConstantBytecodeFragments(): Unit = {
+    val ast = CypherAst.parse("MATCH (n)-[r]->(m) RETURN n, r, m")
+    val ir = ast.translate(TranslatorFlavor.gremlinServer, ProcedureContext.empty())
+    val parameters = Map.empty[String, Any]
+
+    val bytecode1 = TranslationWriter.write(ir, sharingTranslator, parameters)
+    val bytecode2 = TranslationWriter.write(ir, sharingTranslator, parameters)
+    val unshared = TranslationWriter.write(ir, Translator.builder().bytecode().build(), parameters)
+
+    assertThat(bytecode1).isEqualTo(unshared)
+    assertThat(bytecode2).isEqualTo(unshared)
+
+    val nested1 = nestedBytecode(bytecode1)
+    val nested2 = nestedBytecode(bytecode2)
+    assertThat(nested1.nonEmpty).isTrue
+    nested1.zip(nested2).foreach {
+      case (fragment1, fragment2) => assertThat(fragment1).isSameAs(fragment2)
+    }
+  }
+
+  @Test
+  def noSharingByDefault(): Unit = {
+    val ast = CypherAst.parse("MATCH (n)-[r]->(m) RETURN n, r, m")
+    val ir = ast.translate(TranslatorFlavor.gremlinServer, ProcedureContext.empty())
+    val parameters = Map.empty[String, Any]
+
+    val bytecode1 = TranslationWriter.write(ir, Translator.builder().bytecode().build(), parameters)
+    val bytecode2 = TranslationWriter.write(ir, Translator.builder().bytecode().build(), parameters)
+
+    val nested1 = nestedBytecode(bytecode1)
+    val nested2 = nestedBytecode(bytecode2)
+    assertThat(nested1.nonEmpty).isTrue
+    nested1.zip(nested2).foreach {
+      case (fragment1, fragment2) => assertThat(fragment1).isNotSameAs(fragment2)
+    }
+  }
+
+  @Test
+  def bindParametersInFragments(): Unit = {
+    val ast = CypherAst.parse("MATCH (n) RETURN n.name = $name AS eq")
+    val ir = ast.translate(TranslatorFlavor.gremlinServer, ProcedureContext.empty())
+
+    val bytecode1 = TranslationWriter.write(ir, sharingTranslator, Map("name" -> "a"))
+    val bytecode2 = TranslationWriter.write(ir, sharingTranslator, Map("name" -> "b"))
+
+    assertThat(bytecode1.getBindings).isEqualTo(singletonMap("name", "a"))
+    assertThat(bytecode2.getBindings).isEqualTo(singletonMap("name", "b"))
+  }
+
+  @Test
+  def separateFragmentsOfCustomTranslators(): Unit = {
+    val ast = CypherAst.parse("MATCH (n) WHERE n.age > 1 OR n.name = 'a' RETURN n")
+    val ir = ast.translate(TranslatorFlavor.gremlinServer, ProcedureContext.empty())
+    val parameters = Map.empty[String, Any]
+    val customPredicates = new BytecodeGremlinPredicates {
+      override def gt(value: Any): P[_] = P.gte(value)
+    }
+    val customTranslator = Translator
+      .builder()
+      .custom(new BytecodeGremlinSteps(), customPredicates, new BytecodeGremlinBindings())
+      .enableSharedFragments()
+      .build()
+
+    val shared = TranslationWriter.write(ir, sharingTranslator, parameters)
+    val custom = TranslationWriter.write(ir, customTranslator, parameters)
+
+    assertThat(shared).isEqualTo(TranslationWriter.write(ir, Translator.builder().bytecode().build(), parameters))
+    assertThat(custom.toString).contains("gte(1)")
+    assertThat(custom.toString).doesNotContain("gt(1)")
+  }
+}
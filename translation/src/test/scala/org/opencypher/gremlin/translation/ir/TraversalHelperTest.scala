@@ -97,6 +97,17 @@ class TraversalHelperTest {
     )
   }
 
+  @Test
+  def replaceLarge(): Unit = {
+    val seq = (0 until 100000).map(i => As(s"$i")).toList
+    val replaced = TraversalHelper.replace({
+      case As(stepLabel) :: rest => As(s"_$stepLabel") :: rest
+    })(seq)
+
+    assertThat(replaced.size).isEqualTo(100000)
+    assertThat(replaced.last).isEqualTo(As("_99999"))
+  }
+
   @Test
   def splitAfter(): Unit = {
     val seq = Vertex :: As("n") :: OutE("rel") :: As("r") :: InV :: As("m") :: Nil
@@ -166,4 +166,64 @@ class GroupStepFiltersTest {
       .adds(__.V().as(UNNAMED + 7).hasLabel("person").has("name", P.isEq("marko")))
       .adds(__.inV().as(UNNAMED + 44).hasLabel("person").has("name", P.isEq("josh")))
   }
+
+  @Test
+  def indexLookupsFirst(): Unit = {
+    assertThat(parse("""
+        |MATCH (n:N {b: 'b'})
+        |WHERE n.a > 1 AND n.c IN ['c1', 'c2']
+        |RETURN n
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(GroupStepFilters)
+      .adds(
+        __.hasLabel("N")
+          .has("b", P.isEq("b"))
+          .has("c", P.within("c1", "c2"))
+          .has("a", P.gt(1L)))
+  }
+
+  @Test
+  def inListLiteral(): Unit = {
+    assertThat(parse("""
+        |MATCH (n)
+        |WHERE n.p IN [1, 2] AND NOT n.q IN ['a']
+        |RETURN n
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(GroupStepFilters)
+      .removes(__.select("n").values("p").is(P.within(Long.box(1L), Long.box(2L))))
+      .adds(__.has("p", P.within(Long.box(1L), Long.box(2L))))
+      .adds(__.has("q", P.without("a")))
+  }
+
+  @Test
+  def inListWithNull(): Unit = {
+    assertThat(parse("""
+        |MATCH (n)
+        |WHERE n.p IN [1, null]
+        |RETURN n
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(GroupStepFilters)
+      .doesNotContain(__.has("p", P.within(Long.box(1L), null)))
+  }
+
+  @Test
+  def compareWithLabel(): Unit = {
+    assertThat(parse("""
+        |UNWIND [1, 2] AS i
+        |MATCH (n:N {p: i})
+        |RETURN n
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(GroupStepFilters)
+      .removes(
+        __.where(
+          __.and(
+            __.select("n").values("p").where(P.isEq("i")),
+            __.select("n").hasLabel("N")
+          )))
+      .adds(__.as("n").hasLabel("N").where(__.values("p").where(P.isEq("i"))))
+  }
 }
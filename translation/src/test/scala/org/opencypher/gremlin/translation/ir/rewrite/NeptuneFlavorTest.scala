@@ -35,15 +35,6 @@ class NeptuneFlavorTest {
       .adds(__.V().limit(0))
   }
 
-  @Test
-  def limit0Workaround(): Unit = {
-    assertThat(parse("CREATE ()"))
-      .withFlavor(flavor)
-      .rewritingWith(NeptuneFlavor)
-      .removes(__.limit(0))
-      .adds(__.select(NONEXISTENT))
-  }
-
   @Test
   def expandListProperties(): Unit = {
     assertThat(parse("CREATE ({foo: [1, 2, 3]})"))
@@ -81,8 +72,6 @@ class NeptuneFlavorTest {
         __.project("  GENERATED2", "  GENERATED3")
           .by(__.constant(4))
           .by(__.constant(5)))
-      .adds(__.property("foo", __.constant(4)))
-      .adds(__.property("foo", __.constant(5)))
   }
 
   @Test
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert.__
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+import org.opencypher.gremlin.translation.ir.model.GremlinBinding
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor
+
+class RelocateIdPredicatesTest {
+
+  val flavor = new TranslatorFlavor(
+    rewriters = Seq(
+      InlineFlatMapTraversal,
+      GroupStepFilters,
+      SimplifySingleProjections,
+      RemoveUnusedAliases
+    ),
+    postConditions = Nil
+  )
+
+  @Test
+  def vertexId(): Unit = {
+    assertThat(parse("""
+        |MATCH (n)
+        |WHERE id(n) = $id
+        |RETURN n
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(RelocateIdPredicates)
+      .removes(__.V().as("n"))
+      .adds(__.V(GremlinBinding("id")).as("n"))
+  }
+
+  @Test
+  def vertexIdList(): Unit = {
+    assertThat(parse("""
+        |MATCH (n:N)-->(m)
+        |WHERE n.p = 1 AND id(n) IN $ids
+        |RETURN m
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(RelocateIdPredicates)
+      .removes(__.V().as("n"))
+      .adds(__.V(GremlinBinding("ids")).as("n").hasLabel("N"))
+  }
+
+  @Test
+  def secondPattern(): Unit = {
+    assertThat(parse("""
+        |MATCH (n)
+        |MATCH (m)
+        |WHERE id(m) = $id
+        |RETURN n, m
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(RelocateIdPredicates)
+      .keeps(__.V().as("n"))
+      .adds(__.V(GremlinBinding("id")).as("m"))
+  }
+
+  @Test
+  def edgeId(): Unit = {
+    assertThat(parse("""
+        |MATCH ()-[r:R]->(m)
+        |WHERE id(r) = $id
+        |RETURN m
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(RelocateIdPredicates)
+      .removes(__.V().outE("R").as("r"))
+      .adds(__.E(GremlinBinding("id")).hasLabel("R").as("r"))
+  }
+
+  @Test
+  def literalId(): Unit = {
+    assertThat(parse("""
+        |MATCH (n)
+        |WHERE id(n) = 1
+        |RETURN n
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(RelocateIdPredicates)
+      .keeps(__.V().as("n"))
+  }
+
+  @Test
+  def optionalMatch(): Unit = {
+    assertThat(parse("""
+        |MATCH (n)
+        |OPTIONAL MATCH (n)-->(m)
+        |WHERE id(m) = $id
+        |RETURN n, m
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(RelocateIdPredicates)
+      .keeps(__.V().as("n"))
+  }
+}
@@ -48,6 +48,18 @@ class RemoveMultipleAliasesTest {
         |RETURN s AS soft
       """.stripMargin))
       .withFlavor(flavor)
+      .rewritingWith(RemoveMultipleAliases)
+      .keeps(__.select("c").as("c"))
+      .keeps(__.select("s").as("s"))
+  }
+
+  @Test
+  def keepShadowedAliasesInNamedPath(): Unit = {
+    assertThat(parse("""MATCH (p:person)
+        |OPTIONAL MATCH path = (p)-[c:created]->(s:software)
+        |RETURN s AS soft, path
+      """.stripMargin))
+      .withFlavor(flavor)
       .keeps(__.as("c").as("s"))
   }
 
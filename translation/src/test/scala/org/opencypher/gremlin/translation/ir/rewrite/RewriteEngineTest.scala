@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2018 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.opencypher.gremlin.translation.ir.model._
+
+import scala.collection.JavaConverters._
+
+class RewriteEngineTest {
+
+  @Test
+  def statistics(): Unit = {
+    val engine = new RewriteEngine(
+      Seq(
+        InlineFlatMapTraversal,
+        RemoveUnusedAliases,
+        IdentityRewriter,
+        RemoveUnusedAliases
+      ))
+    val ir = Vertex :: FlatMapT(As("n") :: Nil) :: Nil
+
+    val rewritten = engine(ir)
+
+    assertThat(rewritten).isEqualTo(Vertex :: Nil)
+    val statistics = engine.getStatistics.asScala
+      .map(s => (s.getName, s.getApplications, s.getHits, s.getSkips))
+    assertThat(statistics).isEqualTo(
+      Seq(
+        ("InlineFlatMapTraversal", 1L, 1L, 0L),
+        ("RemoveUnusedAliases", 1L, 1L, 1L),
+        ("IdentityRewriter", 1L, 0L, 0L)
+      ))
+  }
+
+  @Test
+  def keepUnchangedSubtrees(): Unit = {
+    val nested = Vertex :: As("n") :: Nil
+    val ir = Vertex :: As("n") :: Union(nested, Values("x") :: Nil) :: SelectK("n") :: Nil
+
+    val rewritten = new RewriteEngine(Seq(RemoveUnusedAliases, InlineFlatMapTraversal))(ir)
+
+    assertThat(rewritten eq ir).isTrue
+  }
+}
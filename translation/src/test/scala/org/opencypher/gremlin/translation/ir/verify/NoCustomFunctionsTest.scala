@@ -42,4 +42,14 @@ class NoCustomFunctionsTest {
     assertThatThrownBy(() => ast.buildTranslation(translator))
       .hasMessageContaining("cypherContains, cypherEndsWith, cypherSize, cypherStarsWith, cypherToString")
   }
+
+  @Test
+  def shortestPath(): Unit = {
+    val ast = CypherAst.parse("MATCH (a), (b), p = shortestPath((a)-[*]->(b)) RETURN p")
+    val translator = Translator.builder.gremlinGroovy.build(flavor)
+
+    assertThatThrownBy(() => ast.buildTranslation(translator))
+      .hasMessageContaining("cypherShortestPath")
+      .hasMessageContaining("shortestPath and allShortestPaths patterns require Cypher extensions")
+  }
 }